@@ -0,0 +1,100 @@
+package com.crimsonhub.CrimsonFinanceAPI.benchmark;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountCreateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountUpdateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Account;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.AccountTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.AccountMapper;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.TransactionMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.record.RecordModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o mapeamento DTO → entidade dos pacotes {@code mapper} com o {@link ModelMapper} usado anteriormente,
+ * configurado da mesma forma que o antigo bean de {@code GlobalConfiguration}.
+ * <p>
+ * Para medir também a alocação por chamada: {@code mvn -Pbenchmark test -Djmh.args="-f 1 -prof gc MapperBenchmark"}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+	private ModelMapper modelMapper;
+
+	private AccountMapper accountMapper;
+
+	private TransactionMapper transactionMapper;
+
+	private TransactionInsertDTO transactionInsert;
+
+	private AccountCreateDTO accountCreate;
+
+	private AccountUpdateDTO accountUpdate;
+
+	@Setup
+	public void setup() {
+		modelMapper = new ModelMapper().registerModule(new RecordModule());
+		modelMapper.getConfiguration()
+				.setFieldMatchingEnabled(true)
+				.setFieldAccessLevel(AccessLevel.PRIVATE)
+				.setMatchingStrategy(MatchingStrategies.STRICT);
+
+		accountMapper = new AccountMapper();
+		transactionMapper = new TransactionMapper();
+
+		transactionInsert = new TransactionInsertDTO(new BigDecimal("149.90"), 2L, "Supermercado", Date.valueOf("2025-01-15"), 1L);
+		accountCreate = new AccountCreateDTO(new BigDecimal("1500.00"), 1L, 1L);
+		accountUpdate = new AccountUpdateDTO(new BigDecimal("2300.00"), 2L);
+
+		// Primeira chamada fora da medição: o ModelMapper cria e armazena o TypeMap de cada par de tipos.
+		modelMapper.map(transactionInsert, AccountTransaction.class);
+		modelMapper.map(accountCreate, Account.class);
+		modelMapper.map(accountUpdate, new Account());
+	}
+
+	@Benchmark
+	public AccountTransaction modelMapperTransactionInsert() {
+		return modelMapper.map(transactionInsert, AccountTransaction.class);
+	}
+
+	@Benchmark
+	public AccountTransaction mapperTransactionInsert() {
+		return transactionMapper.toAccountTransaction(transactionInsert);
+	}
+
+	@Benchmark
+	public Account modelMapperAccountCreate() {
+		return modelMapper.map(accountCreate, Account.class);
+	}
+
+	@Benchmark
+	public Account mapperAccountCreate() {
+		return accountMapper.toEntity(accountCreate);
+	}
+
+	@Benchmark
+	public Account modelMapperAccountUpdate() {
+		Account account = new Account();
+		modelMapper.map(accountUpdate, account);
+		return account;
+	}
+
+	@Benchmark
+	public Account mapperAccountUpdate() {
+		Account account = new Account();
+		accountMapper.update(accountUpdate, account);
+		return account;
+	}
+}
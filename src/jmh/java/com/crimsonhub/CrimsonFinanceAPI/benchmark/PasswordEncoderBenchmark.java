@@ -0,0 +1,39 @@
+package com.crimsonhub.CrimsonFinanceAPI.benchmark;
+
+import com.crimsonhub.CrimsonFinanceAPI.configuration.GlobalConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da verificação de senha feita no login e na troca de senha, com o encoder de {@link GlobalConfiguration#passwordEncoder(int)}
+ * em cada custo avaliado para {@code security.password.bcrypt-strength}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PasswordEncoderBenchmark {
+
+	private static final String RAW_PASSWORD = "Senha@Forte123";
+
+	@Param({"10", "12"})
+	private int strength;
+
+	private PasswordEncoder passwordEncoder;
+
+	private String encodedPassword;
+
+	@Setup
+	public void setup() {
+		passwordEncoder = new GlobalConfiguration().passwordEncoder(strength);
+		encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+}
@@ -0,0 +1,64 @@
+package com.crimsonhub.CrimsonFinanceAPI.benchmark;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RateLimitGroupType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo da verificação de limite feita pelo {@code RateLimitFilter} em toda requisição, com várias threads
+ * disputando o mesmo perfil e perfis distintos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+	private RateLimiter rateLimiter;
+
+	@Setup
+	public void setup() {
+		rateLimiter = new RateLimiter();
+		ReflectionTestUtils.setField(rateLimiter, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+		ReflectionTestUtils.setField(rateLimiter, "authenticationPermitsPerSecond", 0.2);
+		ReflectionTestUtils.setField(rateLimiter, "authenticationBurst", 5);
+		ReflectionTestUtils.setField(rateLimiter, "readPermitsPerSecond", 1_000_000.0);
+		ReflectionTestUtils.setField(rateLimiter, "readBurst", 1000);
+		ReflectionTestUtils.setField(rateLimiter, "writePermitsPerSecond", 10.0);
+		ReflectionTestUtils.setField(rateLimiter, "writeBurst", 20);
+		ReflectionTestUtils.setField(rateLimiter, "idleEvictionSeconds", 600L);
+		ReflectionTestUtils.setField(rateLimiter, "maximumBuckets", 100_000L);
+		rateLimiter.init();
+	}
+
+	@State(Scope.Thread)
+	public static class Subject {
+
+		private static final AtomicLong NEXT_PROFILE = new AtomicLong();
+
+		private final Long profileId = NEXT_PROFILE.incrementAndGet();
+	}
+
+	@Benchmark
+	public long sameProfile() {
+		return rateLimiter.tryAcquire(RateLimitGroupType.READ, 1L);
+	}
+
+	@Benchmark
+	public long distinctProfiles(Subject subject) {
+		return rateLimiter.tryAcquire(RateLimitGroupType.READ, subject.profileId);
+	}
+
+	@Benchmark
+	public long rejected() {
+		return rateLimiter.tryAcquire(RateLimitGroupType.WRITE, 1L);
+	}
+}
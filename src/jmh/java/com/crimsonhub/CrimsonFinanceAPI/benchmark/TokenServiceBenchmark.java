@@ -0,0 +1,51 @@
+package com.crimsonhub.CrimsonFinanceAPI.benchmark;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RoleType;
+import com.crimsonhub.CrimsonFinanceAPI.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da emissão de tokens no login e da validação feita pelo {@code SecurityFilter} em toda requisição autenticada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenServiceBenchmark {
+
+	private TokenService tokenService;
+
+	private Profile profile;
+
+	private String token;
+
+	@Setup
+	public void setup() {
+		tokenService = new TokenService();
+		ReflectionTestUtils.setField(tokenService, "expiration", "3");
+		ReflectionTestUtils.setField(tokenService, "secretKey", "cC04Xj88UiRWuYZcQpuqOZ+OhfGXR/AMZxycpLaTuDg=");
+		tokenService.init();
+
+		profile = Profile.builder()
+				.id(1L)
+				.email("benchmark@crimsonfinance.com")
+				.roleType(RoleType.USER)
+				.build();
+		token = tokenService.generateToken(profile);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return tokenService.generateToken(profile);
+	}
+
+	@Benchmark
+	public String validateToken() {
+		return tokenService.validateToken(token);
+	}
+}
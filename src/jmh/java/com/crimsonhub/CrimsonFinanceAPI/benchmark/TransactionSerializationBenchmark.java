@@ -0,0 +1,54 @@
+package com.crimsonhub.CrimsonFinanceAPI.benchmark;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da serialização JSON das listagens de transações, com um {@link ObjectMapper} equivalente ao do Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TransactionSerializationBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	private int size;
+
+	private ObjectMapper objectMapper;
+
+	private List<TransactionResponseDTO> transactions;
+
+	@Setup
+	public void setup() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDate start = LocalDate.of(2025, 1, 1);
+		transactions = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			transactions.add(new TransactionResponseDTO(
+					i + 1,
+					BigDecimal.valueOf(1000 + i * 37L, 2),
+					i % 2 == 0 ? "Receita" : "Despesa",
+					"Transação " + i,
+					Date.valueOf(start.plusDays(i % 365)),
+					"Alimentação"));
+		}
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(transactions);
+	}
+}
@@ -0,0 +1,82 @@
+package com.crimsonhub.CrimsonFinanceAPI.configuration;
+
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração dos pools do banco primário e da réplica de leitura.
+ * <p>
+ * O primário é configurado pelas propriedades padrão {@code spring.datasource.*}. A réplica só é criada
+ * quando {@code datasource.replica.url} é informado; sem ela, todo o tráfego segue para o primário.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Configuration
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             MeterRegistry meterRegistry,
+                                                             @Value("${datasource.replica.url:}") String url,
+                                                             @Value("${datasource.replica.username:}") String username,
+                                                             @Value("${datasource.replica.password:}") String password,
+                                                             @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                                             @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        HikariDataSource replica = null;
+
+        if (!url.isBlank()) {
+            replica = new HikariDataSource();
+            replica.setPoolName("replica");
+            replica.setJdbcUrl(url);
+            replica.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            replica.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(1000);
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replica, maxLagMillis);
+
+        Gauge.builder("datasource.replica.lag", routing, ReplicaRoutingDataSource::getReplicaLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", routing, source -> source.isReplicaAvailable() ? 1 : 0)
+                .register(meterRegistry);
+
+        return routing;
+    }
+
+    /**
+     * DataSource usado pela aplicação. O proxy adia a obtenção da conexão até o primeiro comando,
+     * quando a transação já está marcada como somente leitura ou não.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -1,9 +1,6 @@
 package com.crimsonhub.CrimsonFinanceAPI.configuration;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.config.Configuration.AccessLevel;
-import org.modelmapper.convention.MatchingStrategies;
-import org.modelmapper.record.RecordModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,32 +24,15 @@ public class GlobalConfiguration {
      * Define o bean {@link PasswordEncoder} usando a implementação {@link BCryptPasswordEncoder}.
      * <p>
      *     Este bean é usado para codificar senhas, garantindo maior segurança no armazenamento.
+     *     O custo é configurável; hashes gerados com custo menor são recalculados no login.
      * </p>
      *
+     * @param strength o custo (log2 das rodadas) do BCrypt
      * @return uma instância de {@link BCryptPasswordEncoder}
      */
     @Bean(name = "passwordEncoder")
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    /**
-     * Define o bean {@link ModelMapper} para mapeamento automático de objetos.
-     * <p>
-     *     Este bean é usado para converter objetos de uma classe para outra,
-     *     facilitando operações de DTOs e entidades no sistema.
-     * </p>
-     *
-     * @return uma instância de {@link ModelMapper}
-     */
-    @Bean(name = "modelMapper")
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper().registerModule(new RecordModule());
-        modelMapper.getConfiguration()
-                .setFieldMatchingEnabled(true)
-                .setFieldAccessLevel(AccessLevel.PRIVATE)
-                .setMatchingStrategy(MatchingStrategies.STRICT);
-        return modelMapper;
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -80,6 +60,7 @@ public class GlobalConfiguration {
                         .allowedOrigins("http://localhost:4200")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("ETag")
                         .allowCredentials(true);
             }
         };
@@ -92,6 +73,7 @@ public class GlobalConfiguration {
         config.setAllowedOrigins(List.of("http://localhost:4200")); // Libera o Angular
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true); // Permite cookies ou headers de autenticação
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
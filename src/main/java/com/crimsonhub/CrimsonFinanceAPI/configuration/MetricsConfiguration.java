@@ -0,0 +1,21 @@
+package com.crimsonhub.CrimsonFinanceAPI.configuration;
+
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.QueryCountStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Registra o {@link QueryCountStatementInspector} no Hibernate, usado para contar os comandos SQL de cada requisição.
+     *
+     * @return o customizador das propriedades do Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+    }
+}
@@ -1,7 +1,10 @@
 package com.crimsonhub.CrimsonFinanceAPI.configuration;
 
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.RateLimitFilter;
 import com.crimsonhub.CrimsonFinanceAPI.infrastructure.SecurityFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,6 +16,9 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 /**
  * Configuração de segurança do Spring Security para a aplicação.
@@ -36,6 +42,18 @@ public class SecurityConfiguration {
     @Autowired
     private SecurityFilter securityFilter;
 
+    /**
+     * Filtro que limita a taxa de requisições por perfil, aplicado após a autenticação.
+     */
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    /**
+     * Porta exclusiva dos endpoints do Actuator, que não deve ser exposta fora da rede interna.
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * Configura a cadeia de filtros de segurança do Spring Security.
      *
@@ -69,22 +87,75 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.GET, "/api/cards/{profileId}/top").hasAuthority("USER")
                         .requestMatchers(HttpMethod.POST, "/api/cards/{id}/invoiceAssign").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/cards/{id}/invoices").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/cards/{id}/invoices/range").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/cards/invoices").hasAuthority("USER")
                         .requestMatchers(HttpMethod.DELETE, "/api/cards/{id}").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/accounts/transactions/{profileId}/{transactionTypeId}/total").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/accounts/transactions/{profileId}/{transactionTypeId}/top").hasAuthority("USER")
                         .requestMatchers(HttpMethod.POST, "/api/accounts/transactions/{accountId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.POST, "/api/accounts/transactions/{accountId}/batch").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/accounts/transactions/{transactionId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/accounts/transactions/{accountId}/page").hasAuthority("USER")
                         .requestMatchers(HttpMethod.DELETE, "/api/accounts/transactions/{transactionId}").hasAuthority("USER")
                         .requestMatchers(HttpMethod.POST, "/api/cards/transactions/{cardId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.POST, "/api/cards/transactions/{cardId}/batch").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/cards/transactions/{cardId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/cards/transactions/{cardId}/page").hasAuthority("USER")
                         .requestMatchers(HttpMethod.GET, "/api/cards/transactions/{profileId}/total").hasAuthority("USER")
                         .requestMatchers(HttpMethod.DELETE, "/api/cards/transactions/{transactionId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/transactions/export/{profileId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/transactions/search/{profileId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/dashboard/{profileId}").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/analytics/{profileId}/monthly").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/analytics/{profileId}/categories").hasAuthority("USER")
+                        .requestMatchers(HttpMethod.POST, "/api/maintenance/transaction-totals/rebuild").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/maintenance/transaction-monthly/rebuild").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/maintenance/transaction-partitions/ensure").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/maintenance/invoices/close").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/maintenance/principal-cache/stats").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/maintenance/reference-data/refresh").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(prometheusScrape()).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").hasAuthority("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, SecurityFilter.class)
                 .build();
     }
 
+    /**
+     * Coleta de métricas pelo Prometheus sem credenciais, aceita apenas na porta de gerenciamento. Em qualquer
+     * outra porta, inclusive quando o Actuator compartilha a porta da aplicação, o endpoint exige ADMIN.
+     */
+    private RequestMatcher prometheusScrape() {
+        return new AndRequestMatcher(
+                AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/actuator/prometheus"),
+                request -> managementPort > 0 && request.getLocalPort() == managementPort);
+    }
+
+    /**
+     * Impede que o Spring Boot registre o {@link SecurityFilter} também como filtro do servlet;
+     * ele deve executar apenas dentro da cadeia do Spring Security.
+     */
+    @Bean
+    public FilterRegistrationBean<SecurityFilter> securityFilterRegistration(SecurityFilter filter) {
+        FilterRegistrationBean<SecurityFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Impede que o Spring Boot registre o {@link RateLimitFilter} também como filtro do servlet, onde
+     * executaria fora da cadeia do Spring Security, sem o perfil autenticado.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Configura o gerenciador de autenticação usado pelo Spring Security.
      *
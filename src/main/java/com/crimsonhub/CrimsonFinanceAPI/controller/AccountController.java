@@ -3,12 +3,15 @@ package com.crimsonhub.CrimsonFinanceAPI.controller;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountCreateDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountListResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountUpdateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
 import com.crimsonhub.CrimsonFinanceAPI.service.AccountService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -20,6 +23,9 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
     @PostMapping("/create/{profileId}")
     public ResponseEntity<?> createAccount(@PathVariable Long profileId, @Valid @RequestBody AccountCreateDTO data) {
         accountService.createAccount(profileId, data);
@@ -33,15 +39,15 @@ public class AccountController {
     }
 
     @GetMapping
-    public ResponseEntity<List<AccountListResponseDTO>> findAccountsByProfileId(@RequestParam Long profileId) {
-        List<AccountListResponseDTO> response = accountService.findAccountsByProfileId(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<AccountListResponseDTO>> findAccountsByProfileId(@RequestParam Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> accountService.findAccountsByProfileId(profileId));
     }
 
     @GetMapping("/balance")
-    public ResponseEntity<BigDecimal> getTotalAccountsBalance(@RequestParam Long profileId) {
-        BigDecimal response = accountService.getTotalAccountsBalance(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<BigDecimal> getTotalAccountsBalance(@RequestParam Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> accountService.getTotalAccountsBalance(profileId));
     }
 
     @DeleteMapping("/{id}")
@@ -1,14 +1,21 @@
 package com.crimsonhub.CrimsonFinanceAPI.controller;
 
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionBatchInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionBatchResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionPageResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionTopResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
 import com.crimsonhub.CrimsonFinanceAPI.service.AccountTransactionService;
+import com.crimsonhub.CrimsonFinanceAPI.service.IdempotencyService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -20,28 +27,50 @@ public class AccountTransactionController {
     @Autowired
     private AccountTransactionService accountTransactionService;
 
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @PostMapping("/{accountId}")
-    public ResponseEntity<?> insertAccountTransaction(@PathVariable Long accountId, @Valid @RequestBody TransactionInsertDTO data) {
-        accountTransactionService.insertAccountTransaction(accountId, data);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+    public ResponseEntity<?> insertAccountTransaction(@PathVariable Long accountId, @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey, @Valid @RequestBody TransactionInsertDTO data) {
+        return idempotencyService.execute(idempotencyKey, "account-transaction:" + accountId, data, () -> {
+            accountTransactionService.insertAccountTransaction(accountId, data);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+    }
+
+    @PostMapping("/{accountId}/batch")
+    public ResponseEntity<TransactionBatchResponseDTO> insertAccountTransactions(@PathVariable Long accountId, @Valid @RequestBody TransactionBatchInsertDTO data) {
+        long start = System.nanoTime();
+        int inserted = accountTransactionService.insertAccountTransactions(accountId, data.transactions());
+        TransactionBatchResponseDTO response = TransactionBatchResponseDTO.of(inserted, System.nanoTime() - start);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/{profileId}/{transactionTypeId}/total")
-    public ResponseEntity<BigDecimal> getTotalAmountByTransactionType(@PathVariable Long profileId, @PathVariable Long transactionTypeId) {
-        BigDecimal response = accountTransactionService.getTotalAmountByTransactionType(profileId, transactionTypeId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<BigDecimal> getTotalAmountByTransactionType(@PathVariable Long profileId, @PathVariable Long transactionTypeId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> accountTransactionService.getTotalAmountByTransactionType(profileId, transactionTypeId));
     }
 
     @GetMapping("/{profileId}/{transactionTypeId}/top")
-    public ResponseEntity<List<TransactionTopResponseDTO>> findTopTransactionsByType(@PathVariable Long profileId, @PathVariable Long transactionTypeId) {
-        List<TransactionTopResponseDTO> response = accountTransactionService.findTopTransactionsByType(profileId, transactionTypeId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TransactionTopResponseDTO>> findTopTransactionsByType(@PathVariable Long profileId, @PathVariable Long transactionTypeId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> accountTransactionService.findTopTransactionsByType(profileId, transactionTypeId));
     }
 
     @GetMapping("/{accountId}")
-    public ResponseEntity<List<TransactionResponseDTO>> findTransactionsByAccountId(@PathVariable Long accountId) {
-        List<TransactionResponseDTO> response = accountTransactionService.findTransactionsByAccountId(accountId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TransactionResponseDTO>> findTransactionsByAccountId(@PathVariable Long accountId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.ACCOUNT, accountId,
+                () -> accountTransactionService.findTransactionsByAccountId(accountId));
+    }
+
+    @GetMapping("/{accountId}/page")
+    public ResponseEntity<TransactionPageResponseDTO> findTransactionPageByAccountId(@PathVariable Long accountId, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.ACCOUNT, accountId,
+                () -> accountTransactionService.findTransactionPageByAccountId(accountId, cursor, size));
     }
 
     @DeleteMapping("/{transactionId}")
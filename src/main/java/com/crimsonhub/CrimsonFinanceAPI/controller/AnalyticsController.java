@@ -0,0 +1,37 @@
+package com.crimsonhub.CrimsonFinanceAPI.controller;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics.CategoryTotalResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics.MonthlyTotalResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @GetMapping("/{profileId}/monthly")
+    public ResponseEntity<List<MonthlyTotalResponseDTO>> findMonthlyTotals(@PathVariable Long profileId, @RequestParam YearMonth from, @RequestParam YearMonth to, @RequestParam(required = false) Long type, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> analyticsService.findMonthlyTotals(profileId, from, to, type));
+    }
+
+    @GetMapping("/{profileId}/categories")
+    public ResponseEntity<List<CategoryTotalResponseDTO>> findCategoryTotals(@PathVariable Long profileId, @RequestParam YearMonth from, @RequestParam YearMonth to, @RequestParam(required = false) Long type, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> analyticsService.findCategoryTotals(profileId, from, to, type));
+    }
+}
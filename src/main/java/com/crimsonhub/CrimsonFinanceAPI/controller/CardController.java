@@ -1,14 +1,17 @@
 package com.crimsonhub.CrimsonFinanceAPI.controller;
 
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.*;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
 import com.crimsonhub.CrimsonFinanceAPI.service.CardService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -18,6 +21,9 @@ public class CardController {
     @Autowired
     private CardService cardService;
 
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
     @PostMapping("/assign/{profileId}")
     public ResponseEntity<?> assignCard(@PathVariable Long profileId, @Valid @RequestBody CardAssignDTO data) {
         cardService.assignCard(profileId, data);
@@ -31,21 +37,21 @@ public class CardController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CardListResponseDTO>> findCardsByProfileId(@RequestParam Long profileId) {
-        List<CardListResponseDTO> response = cardService.findCardsByProfileId(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<CardListResponseDTO>> findCardsByProfileId(@RequestParam Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> cardService.findCardsByProfileId(profileId));
     }
 
     @GetMapping("/balance")
-    public ResponseEntity<?> getTotalCardsBalance(@RequestParam Long profileId) {
-        BigDecimal response = cardService.getTotalCardsBalance(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getTotalCardsBalance(@RequestParam Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> cardService.getTotalCardsBalance(profileId));
     }
 
     @GetMapping("/{profileId}/top")
-    public ResponseEntity<List<CardsDashboardResponseDTO>> findTopCardsByProfileId(@PathVariable Long profileId) {
-        List<CardsDashboardResponseDTO> response = cardService.findTopCardsByProfileId(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<CardsDashboardResponseDTO>> findTopCardsByProfileId(@PathVariable Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> cardService.findTopCardsByProfileId(profileId));
     }
 
     @PostMapping("/{id}/invoiceAssign")
@@ -55,9 +61,21 @@ public class CardController {
     }
 
     @GetMapping("/{id}/invoices")
-    public ResponseEntity<List<InvoiceResponseDTO>> findInvoicesInMonthByCardId(@PathVariable Long id, @RequestParam int month, @RequestParam int year) {
-        List<InvoiceResponseDTO> response = cardService.findInvoicesInMonthByCardId(id, month, year);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<InvoiceResponseDTO>> findInvoicesInMonthByCardId(@PathVariable Long id, @RequestParam int month, @RequestParam int year, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.CARD, id,
+                () -> cardService.findInvoicesInMonthByCardId(id, month, year));
+    }
+
+    @GetMapping("/{id}/invoices/range")
+    public ResponseEntity<List<InvoiceCalendarResponseDTO>> findInvoiceCalendarByCardId(@PathVariable Long id, @RequestParam YearMonth from, @RequestParam YearMonth to, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.CARD, id,
+                () -> cardService.findInvoiceCalendarByCardId(id, from, to));
+    }
+
+    @GetMapping("/invoices")
+    public ResponseEntity<List<InvoiceCalendarResponseDTO>> findInvoiceCalendarByProfileId(@RequestParam Long profileId, @RequestParam YearMonth from, @RequestParam YearMonth to, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> cardService.findInvoiceCalendarByProfileId(profileId, from, to));
     }
 
     @DeleteMapping("/{id}")
@@ -1,13 +1,20 @@
 package com.crimsonhub.CrimsonFinanceAPI.controller;
 
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionBatchInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionBatchResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionPageResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
 import com.crimsonhub.CrimsonFinanceAPI.service.CardTransactionService;
+import com.crimsonhub.CrimsonFinanceAPI.service.IdempotencyService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -19,22 +26,44 @@ public class CardTransactionController {
     @Autowired
     private CardTransactionService cardTransactionService;
 
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @PostMapping("/{cardId}")
-    public ResponseEntity<?> insertCardTransaction(@PathVariable Long cardId, @Valid @RequestBody TransactionInsertDTO data) {
-        cardTransactionService.insertCardTransaction(cardId, data);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+    public ResponseEntity<?> insertCardTransaction(@PathVariable Long cardId, @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey, @Valid @RequestBody TransactionInsertDTO data) {
+        return idempotencyService.execute(idempotencyKey, "card-transaction:" + cardId, data, () -> {
+            cardTransactionService.insertCardTransaction(cardId, data);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+    }
+
+    @PostMapping("/{cardId}/batch")
+    public ResponseEntity<TransactionBatchResponseDTO> insertCardTransactions(@PathVariable Long cardId, @Valid @RequestBody TransactionBatchInsertDTO data) {
+        long start = System.nanoTime();
+        int inserted = cardTransactionService.insertCardTransactions(cardId, data.transactions());
+        TransactionBatchResponseDTO response = TransactionBatchResponseDTO.of(inserted, System.nanoTime() - start);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/{profileId}/total")
-    public ResponseEntity<BigDecimal> getTotalExpensesForCard(@PathVariable Long profileId) {
-        BigDecimal response = cardTransactionService.getTotalExpensesForCard(profileId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<BigDecimal> getTotalExpensesForCard(@PathVariable Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> cardTransactionService.getTotalExpensesForCard(profileId));
     }
 
     @GetMapping("/{cardId}")
-    public ResponseEntity<List<TransactionResponseDTO>> findTransactionsByCardId(@PathVariable Long cardId) {
-        List<TransactionResponseDTO> response = cardTransactionService.findTransactionsByCardId(cardId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TransactionResponseDTO>> findTransactionsByCardId(@PathVariable Long cardId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.CARD, cardId,
+                () -> cardTransactionService.findTransactionsByCardId(cardId));
+    }
+
+    @GetMapping("/{cardId}/page")
+    public ResponseEntity<TransactionPageResponseDTO> findTransactionPageByCardId(@PathVariable Long cardId, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.CARD, cardId,
+                () -> cardTransactionService.findTransactionPageByCardId(cardId, cursor, size));
     }
 
     @DeleteMapping("/{transactionId}")
@@ -0,0 +1,27 @@
+package com.crimsonhub.CrimsonFinanceAPI.controller;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.dashboard.DashboardResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @GetMapping("/{profileId}")
+    public ResponseEntity<DashboardResponseDTO> getDashboard(@PathVariable Long profileId, WebRequest request) {
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> dashboardService.getDashboard(profileId));
+    }
+}
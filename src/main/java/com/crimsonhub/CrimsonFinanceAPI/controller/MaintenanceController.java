@@ -0,0 +1,72 @@
+package com.crimsonhub.CrimsonFinanceAPI.controller;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceClosingResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.PrincipalCacheStatsResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.PrincipalCache;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.service.InvoiceClosingService;
+import com.crimsonhub.CrimsonFinanceAPI.service.TransactionAggregateService;
+import com.crimsonhub.CrimsonFinanceAPI.service.TransactionPartitionService;
+import com.crimsonhub.CrimsonFinanceAPI.service.TransactionTotalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("api/maintenance")
+public class MaintenanceController {
+
+    @Autowired
+    private TransactionTotalService transactionTotalService;
+
+    @Autowired
+    private TransactionAggregateService transactionAggregateService;
+
+    @Autowired
+    private TransactionPartitionService transactionPartitionService;
+
+    @Autowired
+    private InvoiceClosingService invoiceClosingService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @PostMapping("/transaction-totals/rebuild")
+    public ResponseEntity<Integer> rebuildTransactionTotals() {
+        int response = transactionTotalService.rebuild();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/transaction-monthly/rebuild")
+    public ResponseEntity<Integer> rebuildTransactionMonthly() {
+        int response = transactionAggregateService.rebuildMonthly();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/transaction-partitions/ensure")
+    public ResponseEntity<Integer> ensureTransactionPartitions() {
+        int response = transactionPartitionService.ensurePartitions();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/invoices/close")
+    public ResponseEntity<InvoiceClosingResponseDTO> closeInvoices() {
+        InvoiceClosingResponseDTO response = invoiceClosingService.closeInvoices();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/principal-cache/stats")
+    public ResponseEntity<PrincipalCacheStatsResponseDTO> principalCacheStats() {
+        PrincipalCacheStatsResponseDTO response = principalCache.stats();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/reference-data/refresh")
+    public ResponseEntity<Integer> refreshReferenceData() {
+        int response = referenceDataRegistry.refresh();
+        return ResponseEntity.ok(response);
+    }
+}
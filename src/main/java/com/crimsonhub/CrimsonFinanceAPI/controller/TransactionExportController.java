@@ -0,0 +1,28 @@
+package com.crimsonhub.CrimsonFinanceAPI.controller;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.ExportFormatType;
+import com.crimsonhub.CrimsonFinanceAPI.service.TransactionExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("api/transactions/export")
+public class TransactionExportController {
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @GetMapping("/{profileId}")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@PathVariable Long profileId, @RequestParam(defaultValue = "NDJSON") ExportFormatType format, WebRequest request) {
+        StreamingResponseBody response = transactionExportService.exportTransactions(profileId, format, request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions-" + profileId + "." + format.getExtension() + "\"")
+                .body(response);
+    }
+}
@@ -0,0 +1,49 @@
+package com.crimsonhub.CrimsonFinanceAPI.controller;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchCriteria;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchPageResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.service.TransactionSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("api/transactions/search")
+public class TransactionSearchController {
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @GetMapping("/{profileId}")
+    public ResponseEntity<TransactionSearchPageResponseDTO> searchTransactions(@PathVariable Long profileId,
+                                                                               @RequestParam String query,
+                                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                               @RequestParam(required = false) BigDecimal minAmount,
+                                                                               @RequestParam(required = false) BigDecimal maxAmount,
+                                                                               @RequestParam(required = false) Long type,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(required = false) Integer size,
+                                                                               WebRequest request) {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(query,
+                from == null ? null : Date.valueOf(from),
+                to == null ? null : Date.valueOf(to),
+                minAmount,
+                maxAmount,
+                type);
+
+        return dataVersionRegistry.conditional(request, DataVersionScopeType.PROFILE, profileId,
+                () -> transactionSearchService.searchTransactions(profileId, criteria, cursor, size));
+    }
+}
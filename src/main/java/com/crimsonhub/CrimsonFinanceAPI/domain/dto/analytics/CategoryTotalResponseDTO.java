@@ -0,0 +1,11 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics;
+
+import java.math.BigDecimal;
+
+public record CategoryTotalResponseDTO(Long categoryId,
+                                       String categoryName,
+                                       Long transactionTypeId,
+                                       String transactionTypeName,
+                                       BigDecimal totalAmount,
+                                       Long transactionCount) {
+}
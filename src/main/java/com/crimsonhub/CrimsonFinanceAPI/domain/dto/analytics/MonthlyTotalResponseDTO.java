@@ -0,0 +1,11 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record MonthlyTotalResponseDTO(YearMonth month,
+                                      Long transactionTypeId,
+                                      String transactionTypeName,
+                                      BigDecimal totalAmount,
+                                      Integer transactionCount) {
+}
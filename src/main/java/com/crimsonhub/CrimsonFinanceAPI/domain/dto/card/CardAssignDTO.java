@@ -2,12 +2,16 @@ package com.crimsonhub.CrimsonFinanceAPI.domain.dto.card;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
 
 public record CardAssignDTO(@NotNull(message = "{generic.error}") @DecimalMin(value = "0.0") @Digits(integer = 12, fraction = 2) BigDecimal creditLimit,
                             Long flag,
-                            String description) {
+                            String description,
+                            @Min(value = 1, message = "{generic.error}") @Max(value = 28, message = "{generic.error}") Integer closingDay,
+                            @Min(value = 1, message = "{generic.error}") @Max(value = 28, message = "{generic.error}") Integer dueDay) {
 }
 
@@ -7,6 +7,5 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
 public record CardUpdateDTO(@NotNull(message = "{generic.error}") @DecimalMin(value = "0.0") @Digits(integer = 12, fraction = 2) BigDecimal creditLimit,
-                            BigDecimal currentExpenses,
                             String description) {
 }
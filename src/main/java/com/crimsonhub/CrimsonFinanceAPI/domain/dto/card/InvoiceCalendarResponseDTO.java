@@ -0,0 +1,12 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.card;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public record InvoiceCalendarResponseDTO(Long id,
+                                         Long cardId,
+                                         BigDecimal amountDue,
+                                         Date dateDue,
+                                         Date closingDate,
+                                         boolean paid) {
+}
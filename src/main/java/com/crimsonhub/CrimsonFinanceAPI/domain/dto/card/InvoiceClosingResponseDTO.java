@@ -0,0 +1,23 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.card;
+
+import java.sql.Date;
+
+/**
+ * Resultado de uma execução do fechamento de faturas.
+ *
+ * @param referenceDate Data usada para determinar o último fechamento de cada cartão.
+ * @param chunks Quantidade de faixas de cartões processadas.
+ * @param invoicesCreated Quantidade de faturas geradas nesta execução.
+ * @param elapsedMillis Duração da execução.
+ * @param invoicesPerSecond Vazão da execução.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record InvoiceClosingResponseDTO(Date referenceDate,
+                                        int chunks,
+                                        long invoicesCreated,
+                                        long elapsedMillis,
+                                        double invoicesPerSecond) {
+}
@@ -0,0 +1,16 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.dashboard;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardsDashboardResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionTopResponseDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record DashboardResponseDTO(BigDecimal accountsBalance,
+                                   BigDecimal cardsBalance,
+                                   List<CardsDashboardResponseDTO> topCards,
+                                   BigDecimal totalRevenue,
+                                   BigDecimal totalExpenses,
+                                   List<TransactionTopResponseDTO> topRevenues,
+                                   List<TransactionTopResponseDTO> topExpenses) {
+}
@@ -0,0 +1,8 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.security;
+
+public record PrincipalCacheStatsResponseDTO(long hitCount,
+                                             long missCount,
+                                             double hitRate,
+                                             long evictionCount,
+                                             long size) {
+}
@@ -0,0 +1,11 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TransactionBatchInsertDTO(@NotNull(message = "{generic.error}") @NotEmpty(message = "{generic.error}") @Size(max = 1000, message = "{batch.size.error}") List<@Valid TransactionInsertDTO> transactions) {
+}
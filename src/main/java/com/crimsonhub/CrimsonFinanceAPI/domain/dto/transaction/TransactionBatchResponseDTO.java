@@ -0,0 +1,24 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resultado de uma inserção de transações em lote.
+ *
+ * @param inserted Quantidade de transações gravadas.
+ * @param elapsedMillis Tempo total da operação, incluindo o commit.
+ * @param rowsPerSecond Vazão da operação em linhas por segundo.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionBatchResponseDTO(int inserted,
+                                          long elapsedMillis,
+                                          double rowsPerSecond) {
+
+    public static TransactionBatchResponseDTO of(int inserted, long elapsedNanos) {
+        double rowsPerSecond = elapsedNanos == 0 ? inserted : inserted * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return new TransactionBatchResponseDTO(inserted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+    }
+}
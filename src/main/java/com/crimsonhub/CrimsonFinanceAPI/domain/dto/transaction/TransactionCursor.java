@@ -0,0 +1,41 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Base64;
+
+/**
+ * Posição de uma página na listagem de transações ordenada por {@code (transaction_date, id)}.
+ * <p>
+ * O cursor é serializado como uma string opaca (Base64 URL-safe) para que o cliente apenas o
+ * devolva na próxima requisição, sem depender do seu formato interno.
+ * </p>
+ *
+ * @param transactionDate Data da última transação retornada.
+ * @param id Identificador da última transação retornada.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionCursor(Date transactionDate, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String raw = transactionDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new TransactionCursor(Date.valueOf(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestParameterException("cursor");
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
 
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
 import java.math.BigDecimal;
 import java.sql.Date;
 
-public record TransactionInsertDTO(BigDecimal amount,
-                                   Long type,
-                                   String description,
-                                   Date transactionDate,
-                                   Long category) {
+public record TransactionInsertDTO(@NotNull(message = "{generic.error}") @DecimalMin(value = "0.01") @Digits(integer = 12, fraction = 2) BigDecimal amount,
+                                   @NotNull(message = "{generic.error}") Long type,
+                                   @NotNull(message = "{generic.error}") @NotBlank(message = "{generic.error}") @Size(max = 40, message = "{generic.error}") String description,
+                                   @NotNull(message = "{generic.error}") Date transactionDate,
+                                   @NotNull(message = "{generic.error}") Long category) {
 }
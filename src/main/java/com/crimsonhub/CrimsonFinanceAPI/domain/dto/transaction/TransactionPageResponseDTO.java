@@ -0,0 +1,40 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import java.util.List;
+
+/**
+ * Página de transações obtida por paginação via cursor (keyset).
+ *
+ * @param content Transações da página, da mais recente para a mais antiga.
+ * @param nextCursor Cursor para a próxima página, ou {@code null} quando não houver mais resultados.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionPageResponseDTO(List<TransactionResponseDTO> content,
+                                         String nextCursor) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) return DEFAULT_PAGE_SIZE;
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code pageSize + 1} linhas;
+     * a linha excedente apenas indica que existe uma próxima página.
+     */
+    public static TransactionPageResponseDTO of(List<TransactionResponseDTO> rows, int pageSize) {
+        if (rows.size() <= pageSize)
+            return new TransactionPageResponseDTO(rows, null);
+
+        List<TransactionResponseDTO> content = rows.subList(0, pageSize);
+        TransactionResponseDTO last = content.get(pageSize - 1);
+        String nextCursor = new TransactionCursor(last.transactionDate(), last.id().longValue()).encode();
+
+        return new TransactionPageResponseDTO(content, nextCursor);
+    }
+}
@@ -0,0 +1,26 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+/**
+ * Critérios da busca de transações; exceto {@code query}, todos são opcionais e combináveis.
+ *
+ * @param query Termo buscado na descrição e no nome da categoria.
+ * @param from Data inicial, inclusive.
+ * @param to Data final, inclusive.
+ * @param minAmount Valor mínimo, inclusive.
+ * @param maxAmount Valor máximo, inclusive.
+ * @param type Tipo de transação.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionSearchCriteria(String query,
+                                        Date from,
+                                        Date to,
+                                        BigDecimal minAmount,
+                                        BigDecimal maxAmount,
+                                        Long type) {
+}
@@ -0,0 +1,40 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição de uma página na busca de transações ordenada por {@code (rank, source, id)}, todos decrescentes.
+ * <p>
+ * A origem faz parte da posição porque contas e cartões têm sequências de ids independentes.
+ * </p>
+ *
+ * @param rank Relevância da última transação retornada.
+ * @param source Origem da última transação retornada.
+ * @param id Identificador da última transação retornada.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionSearchCursor(float rank, TransactionSourceType source, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + source + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionSearchCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR);
+            return new TransactionSearchCursor(Float.parseFloat(parts[0]), TransactionSourceType.valueOf(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestParameterException("cursor");
+        }
+    }
+}
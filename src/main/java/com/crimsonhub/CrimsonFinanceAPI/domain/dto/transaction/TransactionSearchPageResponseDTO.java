@@ -0,0 +1,31 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca de transações, da mais relevante para a menos relevante.
+ *
+ * @param content Transações da página.
+ * @param nextCursor Cursor para a próxima página, ou {@code null} quando não houver mais resultados.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TransactionSearchPageResponseDTO(List<TransactionSearchResponseDTO> content,
+                                               String nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code pageSize + 1} linhas.
+     */
+    public static TransactionSearchPageResponseDTO of(List<TransactionSearchResponseDTO> rows, int pageSize) {
+        if (rows.size() <= pageSize)
+            return new TransactionSearchPageResponseDTO(rows, null);
+
+        List<TransactionSearchResponseDTO> content = rows.subList(0, pageSize);
+        TransactionSearchResponseDTO last = content.get(pageSize - 1);
+        String nextCursor = new TransactionSearchCursor(last.rank(), last.source(), last.id()).encode();
+
+        return new TransactionSearchPageResponseDTO(content, nextCursor);
+    }
+}
@@ -0,0 +1,17 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public record TransactionSearchResponseDTO(TransactionSourceType source,
+                                           Long id,
+                                           Long parentId,
+                                           BigDecimal amount,
+                                           String transactionTypeName,
+                                           String description,
+                                           Date transactionDate,
+                                           String categoryName,
+                                           float rank) {
+}
@@ -25,7 +25,9 @@ public class Card {
     @Column(name = "credit_limit", precision = 12, scale = 2, nullable = false)
     private BigDecimal creditLimit;
 
-    @Column(name = "current_expenses", precision = 12, scale = 2, nullable = false)
+    // Mantido apenas pelos UPDATEs atômicos de CardRepository; nunca é regravado a partir da entidade.
+    @Column(name = "current_expenses", precision = 12, scale = 2, nullable = false, updatable = false)
+    @Builder.Default
     private BigDecimal currentExpenses = BigDecimal.ZERO;
 
     @Column(name = "card_flag_id", nullable = false)
@@ -33,4 +35,12 @@ public class Card {
 
     @Column(name = "description", nullable = false, length = 40)
     private String description;
+
+    @Column(name = "closing_day", nullable = false)
+    @Builder.Default
+    private Integer closingDay = 1;
+
+    @Column(name = "due_day", nullable = false)
+    @Builder.Default
+    private Integer dueDay = 10;
 }
@@ -13,10 +13,11 @@ import java.sql.Date;
 @AllArgsConstructor
 @RequiredArgsConstructor
 @EqualsAndHashCode(of = "id")
-public class CardTransaction {
+public class CardTransaction implements FinancialTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_transaction_seq")
+    @SequenceGenerator(name = "card_transaction_seq", sequenceName = "card_transaction_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
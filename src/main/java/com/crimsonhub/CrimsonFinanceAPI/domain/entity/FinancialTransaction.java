@@ -0,0 +1,22 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.entity;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+/**
+ * Campos comuns às transações de conta e de cartão usados na manutenção dos agregados.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public interface FinancialTransaction {
+
+    BigDecimal getAmount();
+
+    Long getType();
+
+    Date getTransactionDate();
+
+    Long getCategory();
+}
@@ -4,13 +4,11 @@ import com.crimsonhub.CrimsonFinanceAPI.domain.type.RoleType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.Date;
-import java.util.List;
 
 @Entity
 @Table(name = "profile")
@@ -57,17 +55,9 @@ public class Profile implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        if (this.roleType == RoleType.ADMIN)
-            return List.of(
-                    new SimpleGrantedAuthority("ADMIN"),
-                    new SimpleGrantedAuthority("MOD"),
-                    new SimpleGrantedAuthority("USER"));
-        else if (this.roleType == RoleType.MOD)
-            return List.of(
-                    new SimpleGrantedAuthority("MOD"),
-                    new SimpleGrantedAuthority("USER"));
-        else
-            return List.of(new SimpleGrantedAuthority("USER"));
+        if (this.roleType == null)
+            return RoleType.USER.getAuthorities();
+        return this.roleType.getAuthorities();
     }
 
     @Override
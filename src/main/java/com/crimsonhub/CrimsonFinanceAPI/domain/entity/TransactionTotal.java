@@ -0,0 +1,22 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "transaction_total")
+@Builder
+@Data
+@AllArgsConstructor
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class TransactionTotal {
+
+    @EmbeddedId
+    private TransactionTotalId id;
+
+    @Column(name = "total_amount", precision = 16, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+}
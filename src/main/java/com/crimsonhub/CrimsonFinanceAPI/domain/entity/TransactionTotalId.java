@@ -0,0 +1,24 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.entity;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionTotalId implements Serializable {
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", length = 10, nullable = false)
+    private TransactionSourceType source;
+
+    @Column(name = "transaction_type_id", nullable = false)
+    private Long type;
+}
@@ -0,0 +1,25 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "transaction_type_monthly")
+@Builder
+@Data
+@AllArgsConstructor
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class TransactionTypeMonthly {
+
+    @EmbeddedId
+    private TransactionTypeMonthlyId id;
+
+    @Column(name = "total_amount", precision = 16, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+}
@@ -0,0 +1,23 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.sql.Date;
+
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionTypeMonthlyId implements Serializable {
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Column(name = "transaction_type_id", nullable = false)
+    private Long type;
+
+    @Column(name = "month", nullable = false)
+    private Date month;
+}
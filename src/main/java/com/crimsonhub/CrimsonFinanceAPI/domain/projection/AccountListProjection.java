@@ -0,0 +1,10 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+
+public record AccountListProjection(Integer id,
+                                    BigDecimal initialBalance,
+                                    BigDecimal currentBalance,
+                                    Long accountCompanyId,
+                                    Long accountTypeId) {
+}
@@ -0,0 +1,10 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+
+public record CardListProjection(Integer id,
+                                 BigDecimal creditLimit,
+                                 BigDecimal currentExpenses,
+                                 Long cardFlagId,
+                                 String description) {
+}
@@ -0,0 +1,4 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+public record CardsDashboardProjection(Integer id, Long cardFlagId, String description) {
+}
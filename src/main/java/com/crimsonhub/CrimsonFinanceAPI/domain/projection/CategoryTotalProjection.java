@@ -0,0 +1,9 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+
+public record CategoryTotalProjection(Long categoryId,
+                                      Long transactionTypeId,
+                                      BigDecimal totalAmount,
+                                      Long transactionCount) {
+}
@@ -0,0 +1,10 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public record MonthlyTotalProjection(Long transactionTypeId,
+                                     Date month,
+                                     BigDecimal totalAmount,
+                                     Integer transactionCount) {
+}
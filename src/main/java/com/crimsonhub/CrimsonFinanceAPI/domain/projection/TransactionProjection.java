@@ -0,0 +1,12 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public record TransactionProjection(Integer id,
+                                    BigDecimal amount,
+                                    Long transactionTypeId,
+                                    String description,
+                                    Date transactionDate,
+                                    Long categoryId) {
+}
@@ -0,0 +1,17 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public record TransactionSearchProjection(TransactionSourceType source,
+                                          Long id,
+                                          Long parentId,
+                                          BigDecimal amount,
+                                          Long transactionTypeId,
+                                          String description,
+                                          Date transactionDate,
+                                          Long categoryId,
+                                          float rank) {
+}
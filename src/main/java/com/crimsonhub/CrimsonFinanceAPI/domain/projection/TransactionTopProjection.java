@@ -0,0 +1,8 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.projection;
+
+import java.math.BigDecimal;
+
+public record TransactionTopProjection(Integer id,
+                                       BigDecimal amount,
+                                       Long categoryId) {
+}
@@ -0,0 +1,33 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.type;
+
+/**
+ * Enumeração que define como o {@code SecurityFilter} constrói a autenticação de uma requisição.
+ *
+ * <ul>
+ *     <li>{@link #DATABASE} - O perfil é carregado a partir do e-mail contido no token.</li>
+ *     <li>{@link #STATELESS} - A autenticação é construída apenas a partir das claims do token verificado.</li>
+ * </ul>
+ *
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public enum AuthenticationModeType {
+
+    /**
+     * Modo baseado em banco de dados.
+     * <p>
+     * Alterações de papel e exclusões de perfil passam a valer na requisição seguinte.
+     * </p>
+     */
+    DATABASE,
+
+    /**
+     * Modo sem estado.
+     * <p>
+     * Nenhuma consulta é feita para autenticar; alterações de papel e exclusões de perfil
+     * só passam a valer quando o token expirar.
+     * </p>
+     */
+    STATELESS
+}
@@ -0,0 +1,23 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.type;
+
+/**
+ * Enumeração que identifica o escopo de uma versão de dados.
+ *
+ * <ul>
+ *     <li>{@link #PROFILE} - Dados agregados de um perfil (listagens, saldos, totais e rankings).</li>
+ *     <li>{@link #ACCOUNT} - Transações de uma conta.</li>
+ *     <li>{@link #CARD} - Transações e faturas de um cartão.</li>
+ * </ul>
+ *
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public enum DataVersionScopeType {
+
+    PROFILE,
+
+    ACCOUNT,
+
+    CARD
+}
@@ -10,9 +10,15 @@ public enum ErrorType {
     PROFILE_NOT_FOUND(404, "Perfil não encontrado."),
     ACCOUNT_NOT_FOUND(404, "Conta não encontrada."),
     CARD_NOT_FOUND(404, "Cartão não encontrado."),
+    CREDIT_LIMIT_EXCEEDED(422, "Limite de crédito excedido."),
     INVALID_PASSWORD(0, "Acesso negado."),
     PROFILE_CONFLIT(409, "Perfil duplicado."),
-    INVALID_FIELDS(400, "Erro de validação em campos.");
+    IDEMPOTENCY_KEY_CONFLICT(409, "Idempotency-Key em uso por outra requisição."),
+    INVALID_FIELDS(400, "Erro de validação em campos."),
+    INVALID_PARAMETER(400, "Parâmetro inválido."),
+    TOO_MANY_REQUESTS(429, "Limite de requisições excedido."),
+    SERVICE_OVERLOADED(503, "Serviço temporariamente indisponível."),
+    OPERATION_TIMEOUT(504, "Tempo limite da operação excedido.");
 
     private final int code;
     private final String message;
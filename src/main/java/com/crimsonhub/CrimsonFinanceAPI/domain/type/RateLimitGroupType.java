@@ -0,0 +1,23 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.type;
+
+/**
+ * Enumeração que identifica o grupo de endpoints ao qual um limite de requisições se aplica.
+ *
+ * <ul>
+ *     <li>{@link #AUTHENTICATION} - Login e cadastro, limitados por endereço IP.</li>
+ *     <li>{@link #READ} - Requisições {@code GET} e {@code HEAD}, limitadas por perfil.</li>
+ *     <li>{@link #WRITE} - Demais requisições, limitadas por perfil.</li>
+ * </ul>
+ *
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public enum RateLimitGroupType {
+
+    AUTHENTICATION,
+
+    READ,
+
+    WRITE
+}
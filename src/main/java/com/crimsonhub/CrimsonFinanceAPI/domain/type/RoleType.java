@@ -1,5 +1,10 @@
 package com.crimsonhub.CrimsonFinanceAPI.domain.type;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
 /**
  * Enumeração que representa os diferentes tipos de papéis (roles) de usuários no sistema.
  * <p>
@@ -44,5 +49,33 @@ public enum RoleType {
      * funcionalidades e configurações do sistema.
      * </p>
      */
-    ADMIN
+    ADMIN;
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(
+            new SimpleGrantedAuthority("USER"));
+
+    private static final List<GrantedAuthority> MOD_AUTHORITIES = List.of(
+            new SimpleGrantedAuthority("MOD"),
+            new SimpleGrantedAuthority("USER"));
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(
+            new SimpleGrantedAuthority("ADMIN"),
+            new SimpleGrantedAuthority("MOD"),
+            new SimpleGrantedAuthority("USER"));
+
+    /**
+     * Retorna as autoridades concedidas a este papel.
+     * <p>
+     * As listas são imutáveis e compartilhadas, evitando alocações a cada autenticação.
+     * </p>
+     *
+     * @return As autoridades do papel, incluindo as dos papéis inferiores.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return switch (this) {
+            case ADMIN -> ADMIN_AUTHORITIES;
+            case MOD -> MOD_AUTHORITIES;
+            case USER -> USER_AUTHORITIES;
+        };
+    }
 }
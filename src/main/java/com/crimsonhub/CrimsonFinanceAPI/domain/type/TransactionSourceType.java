@@ -0,0 +1,20 @@
+package com.crimsonhub.CrimsonFinanceAPI.domain.type;
+
+/**
+ * Enumeração que identifica a origem de uma transação.
+ *
+ * <ul>
+ *     <li>{@link #ACCOUNT} - Transação registrada em uma conta ({@code account_transaction}).</li>
+ *     <li>{@link #CARD} - Transação registrada em um cartão ({@code card_transaction}).</li>
+ * </ul>
+ *
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public enum TransactionSourceType {
+
+    ACCOUNT,
+
+    CARD
+}
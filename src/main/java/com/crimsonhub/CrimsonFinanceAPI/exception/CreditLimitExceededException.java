@@ -0,0 +1,30 @@
+package com.crimsonhub.CrimsonFinanceAPI.exception;
+
+/**
+ * Exceção personalizada lançada quando uma despesa ultrapassaria o limite de crédito do cartão.
+ * <p>
+ *     Esta exceção é usada para rejeitar a transação sem alterar as despesas do cartão; nenhuma
+ *     parte do lançamento é gravada.
+ * </p>
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * <pre>
+ *     throw new CreditLimitExceededException(123L);
+ * </pre>
+ *
+ * @see RuntimeException
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class CreditLimitExceededException extends RuntimeException {
+
+    /**
+     * Construtor da exceção que aceita o ID do cartão cujo limite seria excedido.
+     *
+     * @param id O identificador único do cartão.
+     */
+    public CreditLimitExceededException(Long id) {
+        super("Credit limit exceeded for card with ID: " + id, null, false, false);
+    }
+}
@@ -0,0 +1,30 @@
+package com.crimsonhub.CrimsonFinanceAPI.exception;
+
+/**
+ * Exceção personalizada lançada quando uma {@code Idempotency-Key} não pode ser usada pela requisição.
+ * <p>
+ *     Esta exceção é usada quando a chave já pertence a uma requisição com conteúdo diferente, ou
+ *     quando a requisição original ainda não terminou em outra instância da aplicação.
+ * </p>
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * <pre>
+ *     throw new IdempotencyKeyConflictException("6f1c2a9e-...");
+ * </pre>
+ *
+ * @see RuntimeException
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    /**
+     * Construtor da exceção que aceita a chave em conflito.
+     *
+     * @param key O valor do cabeçalho {@code Idempotency-Key}.
+     */
+    public IdempotencyKeyConflictException(String key) {
+        super("Idempotency key conflict: " + key, null, false, false);
+    }
+}
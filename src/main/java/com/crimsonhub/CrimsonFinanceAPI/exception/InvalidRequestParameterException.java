@@ -0,0 +1,36 @@
+package com.crimsonhub.CrimsonFinanceAPI.exception;
+
+import lombok.Getter;
+
+/**
+ * Exceção personalizada lançada quando um parâmetro de requisição possui um valor inválido.
+ * <p>
+ *     Esta exceção é usada para sinalizar que uma operação falhou porque um parâmetro informado,
+ *     como um cursor de paginação, não pôde ser interpretado.
+ * </p>
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * <pre>
+ *     throw new InvalidRequestParameterException("cursor");
+ * </pre>
+ *
+ * @see RuntimeException
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Getter
+public class InvalidRequestParameterException extends RuntimeException {
+
+    private final String parameter;
+
+    /**
+     * Construtor da exceção que aceita o nome do parâmetro inválido.
+     *
+     * @param parameter O nome do parâmetro cujo valor é inválido.
+     */
+    public InvalidRequestParameterException(String parameter) {
+        super("Invalid value for parameter: " + parameter, null, false, false);
+        this.parameter = parameter;
+    }
+}
@@ -0,0 +1,30 @@
+package com.crimsonhub.CrimsonFinanceAPI.exception;
+
+/**
+ * Exceção personalizada lançada quando uma operação não é concluída dentro do tempo limite configurado.
+ * <p>
+ *     Esta exceção é usada para encerrar a requisição com uma resposta de erro previsível, em vez de
+ *     manter o cliente aguardando por uma consulta lenta.
+ * </p>
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * <pre>
+ *     throw new OperationTimeoutException("dashboard");
+ * </pre>
+ *
+ * @see RuntimeException
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class OperationTimeoutException extends RuntimeException {
+
+    /**
+     * Construtor da exceção que aceita o nome da operação que excedeu o tempo limite.
+     *
+     * @param operation O nome da operação.
+     */
+    public OperationTimeoutException(String operation) {
+        super("Operation timed out: " + operation, null, false, false);
+    }
+}
@@ -0,0 +1,30 @@
+package com.crimsonhub.CrimsonFinanceAPI.exception;
+
+/**
+ * Exceção personalizada lançada quando um recurso limitado do servidor está saturado.
+ * <p>
+ *     Esta exceção é usada para rejeitar rapidamente uma operação quando a capacidade reservada
+ *     para ela já está em uso, em vez de enfileirar a requisição indefinidamente.
+ * </p>
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * <pre>
+ *     throw new ServiceOverloadedException("transaction-export");
+ * </pre>
+ *
+ * @see RuntimeException
+ * @author Crimson Solutions
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Construtor da exceção que aceita o nome do recurso saturado.
+     *
+     * @param resource O nome do recurso que não possui capacidade disponível.
+     */
+    public ServiceOverloadedException(String resource) {
+        super("Service overloaded: " + resource, null, false, false);
+    }
+}
@@ -2,6 +2,7 @@ package com.crimsonhub.CrimsonFinanceAPI.exception.handler;
 
 import com.crimsonhub.CrimsonFinanceAPI.domain.type.ErrorType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -31,6 +32,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(CreditLimitExceededException.class)
+    public ResponseEntity<?> handleCreditLimitExceededException(CreditLimitExceededException e) {
+        return new ResponseEntity<>(
+                new ExceptionHandlerResponse(ErrorType.CREDIT_LIMIT_EXCEEDED).getResponse(),
+                HttpStatus.UNPROCESSABLE_ENTITY
+        );
+    }
+
     @ExceptionHandler(InvalidPasswordException.class)
     public ResponseEntity<?> handleInvalidPasswordException(InvalidPasswordException e) {
         return new ResponseEntity<>(
@@ -47,6 +56,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<?> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        return new ResponseEntity<>(
+                new ExceptionHandlerResponse(ErrorType.IDEMPOTENCY_KEY_CONFLICT).getResponse(),
+                HttpStatus.CONFLICT
+        );
+    }
+
     @ExceptionHandler(ProfileNotFoundException.class)
     public ResponseEntity<?> handleProfileNotFoundException(ProfileNotFoundException e) {
         return new ResponseEntity<>(
@@ -55,6 +72,34 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<?> handleInvalidRequestParameterException(InvalidRequestParameterException e) {
+        return new ResponseEntity<>(
+                new ExceptionHandlerResponse(ErrorType.INVALID_PARAMETER, Map.of(e.getParameter(), e.getMessage())).getResponse(),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<?> handleServiceOverloadedException(ServiceOverloadedException e) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+
+        return new ResponseEntity<>(
+                new ExceptionHandlerResponse(ErrorType.SERVICE_OVERLOADED).getResponse(),
+                headers,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    @ExceptionHandler(OperationTimeoutException.class)
+    public ResponseEntity<?> handleOperationTimeoutException(OperationTimeoutException e) {
+        return new ResponseEntity<>(
+                new ExceptionHandlerResponse(ErrorType.OPERATION_TIMEOUT).getResponse(),
+                HttpStatus.GATEWAY_TIMEOUT
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleMethodNotValidException(MethodArgumentNotValidException e) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -0,0 +1,158 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Versões dos dados de perfis, contas e cartões, usadas como ETag nas consultas.
+ * <p>
+ * As versões ficam na tabela {@code data_version}, compartilhada por todas as instâncias. Cada escrita
+ * atribui ao escopo alterado o próximo valor de {@code data_version_seq} na mesma transação que altera
+ * os dados, então a versão nova e os dados novos se tornam visíveis juntos. Os escopos alterados em uma
+ * transação são gravados uma única vez, pouco antes do commit e sempre na mesma ordem, o que limita o
+ * tempo em que as linhas de versão ficam bloqueadas e evita deadlocks entre escritas concorrentes.
+ * </p>
+ * <p>
+ * A ETag combina a versão do escopo com uma versão global, incrementada por {@link #invalidateAll()}.
+ * Um escopo nunca alterado tem versão zero.
+ * </p>
+ * <p>
+ * {@link #conditional} lê a versão e os dados da resposta na mesma transação somente leitura, portanto no
+ * mesmo banco (primário ou réplica), e a versão antes dos dados. Como a réplica aplica as alterações em
+ * ordem, os dados lidos são sempre pelo menos tão novos quanto a versão: uma escrita concorrente pode, no
+ * máximo, associar dados novos a uma versão antiga, o que gera uma resposta completa desnecessária na
+ * próxima consulta, mas nunca um 304 indevido. Ler a versão no primário e os dados na réplica quebraria
+ * essa garantia.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class DataVersionRegistry {
+
+    private static final short GLOBAL_SCOPE = -1;
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::scope).thenComparing(Key::id);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Responde uma consulta condicional: lê a versão do escopo e, se o cliente não tiver a mesma versão,
+     * carrega os dados, tudo na mesma transação somente leitura.
+     *
+     * @param request A requisição, com o {@code If-None-Match} do cliente.
+     * @param scope O escopo dos dados retornados.
+     * @param id O id do perfil, conta ou cartão.
+     * @param loader Carrega o corpo da resposta; participa da transação aberta aqui.
+     * @return A resposta com a ETag, ou {@code null} se o cliente já tem a versão atual (304).
+     */
+    public <T> ResponseEntity<T> conditional(WebRequest request, DataVersionScopeType scope, Long id, Supplier<T> loader) {
+        return readOnlyTransaction.execute(status -> {
+            String etag = etag(scope, id);
+            if (request.checkNotModified(etag)) return null;
+
+            return ResponseEntity.ok().eTag(etag).body(loader.get());
+        });
+    }
+
+    /**
+     * Retorna a ETag forte correspondente à versão atual do escopo. Para que a ETag descreva os dados lidos
+     * em seguida, deve ser chamado na mesma transação que os lê.
+     *
+     * @param scope O escopo consultado.
+     * @param id O id do perfil, conta ou cartão.
+     * @return A ETag, já entre aspas.
+     */
+    public String etag(DataVersionScopeType scope, Long id) {
+        return jdbcTemplate.queryForObject("SELECT " +
+                        "(SELECT version FROM data_version WHERE scope = ? AND id = 0) AS global_version, " +
+                        "(SELECT version FROM data_version WHERE scope = ? AND id = ?) AS version",
+                (rs, rowNum) -> "\"" + rs.getLong("global_version") + "-" + rs.getLong("version") + "\"",
+                GLOBAL_SCOPE, (short) scope.ordinal(), id);
+    }
+
+    /**
+     * Incrementa a versão do escopo. Dentro de uma transação, o incremento é gravado pouco antes do commit,
+     * na mesma transação.
+     *
+     * @param scope O escopo alterado.
+     * @param id O id do perfil, conta ou cartão.
+     */
+    public void bump(DataVersionScopeType scope, Long id) {
+        Key key = new Key((short) scope.ordinal(), id);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(List.of(key));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Key> pending = (Set<Key>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Key> keys = new TreeSet<>(KEY_ORDER);
+            TransactionSynchronizationManager.bindResource(this, keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    increment(keys);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DataVersionRegistry.this);
+                }
+            });
+            pending = keys;
+        }
+
+        pending.add(key);
+    }
+
+    /**
+     * Invalida todas as ETags já emitidas, para alterações que não pertencem a um único escopo.
+     */
+    public void invalidateAll() {
+        increment(List.of(new Key(GLOBAL_SCOPE, 0L)));
+    }
+
+    private void increment(Collection<Key> keys) {
+        if (keys.isEmpty()) return;
+
+        List<Object[]> rows = keys.stream().map(key -> new Object[]{key.scope(), key.id()}).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO data_version (scope, id, version) VALUES (?, ?, nextval('data_version_seq')) " +
+                "ON CONFLICT (scope, id) DO UPDATE SET version = EXCLUDED.version", rows);
+    }
+
+    private record Key(short scope, Long id) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import java.sql.SQLException;
+
+/**
+ * Classificação de erros do PostgreSQL pelo SQLSTATE.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public final class DatabaseErrors {
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private DatabaseErrors() {
+    }
+
+    /**
+     * Indica se a exceção, ou alguma de suas causas, é uma violação de chave estrangeira.
+     */
+    public static boolean isForeignKeyViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && FOREIGN_KEY_VIOLATION.equals(sqlException.getSQLState()))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Obtém ids do gerador de sequência configurado na entidade, para inserções feitas com SQL nativo.
+ * <p>
+ * O gerador usa o mesmo otimizador em blocos que o Hibernate usa ao persistir a entidade, então os ids
+ * não colidem com os gerados pelo {@code save} e, na maior parte das chamadas, não há ida ao banco.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class EntityIdAllocator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param entityClass Entidade com id gerado antes da inserção (sequência).
+     * @return O próximo id da entidade.
+     */
+    public Long nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+
+        return ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+}
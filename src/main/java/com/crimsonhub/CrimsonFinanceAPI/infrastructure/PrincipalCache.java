@@ -0,0 +1,78 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.PrincipalCacheStatsResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache dos perfis autenticados, indexado por e-mail.
+ * <p>
+ * Evita uma consulta a {@code profile} a cada requisição autenticada. O cache é limitado em
+ * quantidade de entradas e cada entrada expira após o tempo configurado; alterações de senha,
+ * de perfil e exclusões invalidam a entrada correspondente imediatamente.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class PrincipalCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${security.principal-cache.ttl-seconds}")
+    private long ttlSeconds;
+
+    private Cache<String, Profile> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    /**
+     * Retorna o perfil associado ao e-mail, consultando o {@code loader} apenas em caso de ausência no cache.
+     *
+     * @param email O e-mail do perfil.
+     * @param loader Função que carrega o perfil, ou retorna {@code null} se ele não existir.
+     * @return O perfil encontrado, ou {@code null} se ele não existir.
+     */
+    public Profile get(String email, Function<String, Profile> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateById(Long id) {
+        cache.asMap().values().removeIf(profile -> id.equals(profile.getId()));
+    }
+
+    public PrincipalCacheStatsResponseDTO stats() {
+        CacheStats stats = cache.stats();
+        return new PrincipalCacheStatsResponseDTO(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
@@ -0,0 +1,42 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual.
+ * <p>
+ * A contagem só ocorre entre {@link #start()} e {@link #stop()}, chamados por {@link RequestQueryCountFilter}
+ * no início e no fim de cada requisição. Consultas executadas em outras threads (como as do painel) ou
+ * diretamente via JDBC não são contabilizadas.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem da thread atual.
+     *
+     * @return A quantidade de comandos preparados desde {@link #start()}.
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) counter[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,89 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.ErrorType;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RateLimitGroupType;
+import com.crimsonhub.CrimsonFinanceAPI.exception.handler.ExceptionHandlerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica os limites de {@link RateLimiter} logo após a autenticação pelo {@link SecurityFilter}.
+ * <p>
+ * Login e cadastro são limitados por endereço IP; as demais requisições, pelo perfil autenticado, ou
+ * pelo IP quando não há autenticação. Requisições acima do limite recebem 429 com {@code Retry-After}
+ * antes de chegar aos controllers, sem ocupar conexões do pool. Os endpoints do actuator e as requisições
+ * de preflight do CORS não são limitados; as demais requisições {@code OPTIONS} contam como leitura.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> AUTHENTICATION_PATHS = Set.of("/api/profiles/login", "/api/profiles/register");
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator/") || CorsUtils.isPreFlightRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitGroupType group = group(request);
+        Object subject = group == RateLimitGroupType.AUTHENTICATION ? request.getRemoteAddr() : subject(request);
+
+        long waitNanos = rateLimiter.tryAcquire(group, subject);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ExceptionHandlerResponse(ErrorType.TOO_MANY_REQUESTS).getResponse());
+    }
+
+    private static RateLimitGroupType group(HttpServletRequest request) {
+        if ("POST".equals(request.getMethod()) && AUTHENTICATION_PATHS.contains(request.getServletPath()))
+            return RateLimitGroupType.AUTHENTICATION;
+
+        return READ_METHODS.contains(request.getMethod()) ? RateLimitGroupType.READ : RateLimitGroupType.WRITE;
+    }
+
+    private static Object subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            if (authentication.getPrincipal() instanceof TokenPrincipal principal) return principal.profileId();
+            if (authentication.getPrincipal() instanceof Profile profile) return profile.getId();
+        }
+        return request.getRemoteAddr();
+    }
+}
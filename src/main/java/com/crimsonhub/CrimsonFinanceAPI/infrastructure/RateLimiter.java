@@ -0,0 +1,132 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RateLimitGroupType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de requisições por balde de fichas (<i>token bucket</i>), por grupo de endpoints e por sujeito
+ * (perfil ou endereço IP).
+ * <p>
+ * Cada balde é implementado pelo algoritmo GCRA: guarda apenas o instante teórico da próxima chegada
+ * em um {@link AtomicLong}, atualizado por compare-and-set, sem locks. Um balde cheio admite
+ * {@code burst} requisições seguidas e se recompõe à taxa de {@code permits-per-second}.
+ * </p>
+ * <p>
+ * Os baldes ficam em caches limitados em quantidade e expiram após o tempo ocioso configurado; como
+ * esse tempo é maior que o de recomposição, um balde expirado já estaria cheio e descartá-lo não muda
+ * o resultado.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class RateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.authentication.permits-per-second:0.2}")
+    private double authenticationPermitsPerSecond;
+
+    @Value("${rate-limit.authentication.burst:5}")
+    private int authenticationBurst;
+
+    @Value("${rate-limit.read.permits-per-second:50}")
+    private double readPermitsPerSecond;
+
+    @Value("${rate-limit.read.burst:100}")
+    private int readBurst;
+
+    @Value("${rate-limit.write.permits-per-second:10}")
+    private double writePermitsPerSecond;
+
+    @Value("${rate-limit.write.burst:20}")
+    private int writeBurst;
+
+    @Value("${rate-limit.idle-eviction-seconds:600}")
+    private long idleEvictionSeconds;
+
+    @Value("${rate-limit.maximum-buckets:100000}")
+    private long maximumBuckets;
+
+    private final Map<RateLimitGroupType, Limit> limits = new EnumMap<>(RateLimitGroupType.class);
+
+    @PostConstruct
+    public void init() {
+        limits.put(RateLimitGroupType.AUTHENTICATION, limit(RateLimitGroupType.AUTHENTICATION, authenticationPermitsPerSecond, authenticationBurst));
+        limits.put(RateLimitGroupType.READ, limit(RateLimitGroupType.READ, readPermitsPerSecond, readBurst));
+        limits.put(RateLimitGroupType.WRITE, limit(RateLimitGroupType.WRITE, writePermitsPerSecond, writeBurst));
+    }
+
+    /**
+     * Consome uma ficha do balde do sujeito no grupo informado.
+     *
+     * @param subject O perfil ou o endereço IP que originou a requisição.
+     * @return Zero se a requisição foi admitida; caso contrário, quantos nanossegundos faltam para a próxima ficha.
+     */
+    public long tryAcquire(RateLimitGroupType group, Object subject) {
+        if (!enabled) return 0;
+
+        Limit limit = limits.get(group);
+        Bucket bucket = limit.buckets().get(subject, key -> new Bucket());
+
+        long waitNanos = bucket.tryAcquire(System.nanoTime(), limit.emissionIntervalNanos(), limit.capacityNanos());
+        if (waitNanos > 0) limit.rejected().increment();
+
+        return waitNanos;
+    }
+
+    private Limit limit(RateLimitGroupType group, double permitsPerSecond, int burst) {
+        long emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+
+        Cache<Object, Bucket> buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleEvictionSeconds))
+                .build();
+
+        Counter rejected = Counter.builder("rate.limit.rejected").tag("group", group.name()).register(meterRegistry);
+
+        return new Limit(emissionIntervalNanos, emissionIntervalNanos * Math.max(1, burst), buckets, rejected);
+    }
+
+    private record Limit(long emissionIntervalNanos, long capacityNanos, Cache<Object, Bucket> buckets, Counter rejected) {
+    }
+
+    private static final class Bucket {
+
+        /**
+         * Instante em que o balde estaria cheio outra vez se nenhuma nova requisição chegasse.
+         */
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        long tryAcquire(long now, long emissionInterval, long capacity) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionInterval;
+
+                long excess = next - now - capacity;
+                if (excess > 0) return excess;
+
+                if (theoreticalArrival.compareAndSet(current, next)) return 0;
+            }
+        }
+    }
+}
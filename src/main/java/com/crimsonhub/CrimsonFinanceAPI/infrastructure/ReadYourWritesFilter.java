@@ -0,0 +1,86 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Garante que o cliente leia as próprias escritas mesmo com a réplica atrasada.
+ * <p>
+ * Toda requisição de escrita devolve o cookie {@value #COOKIE}, com o instante da escrita e validade igual à
+ * janela {@code datasource.replica.read-your-writes-ms}. Enquanto o cookie estiver dentro da janela, as
+ * leituras do cliente vão para o primário, por {@link ReplicaRoutingDataSource#beginRequest(boolean)}. Como
+ * o estado fica com o cliente, a garantia vale para qualquer instância que atenda a próxima requisição.
+ * </p>
+ * <p>
+ * O cookie é emitido antes de processar a escrita, pois depois disso a resposta pode já ter sido enviada;
+ * a janela começa, portanto, um pouco antes do commit. Um valor adulterado só afeta o próprio cliente:
+ * instantes futuros são ignorados e a fixação nunca dura mais que a janela.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "last-write";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Value("${datasource.replica.read-your-writes-ms:5000}")
+    private long readYourWritesMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+
+        if (write) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(now))
+                    .maxAge(Duration.ofMillis(readYourWritesMillis))
+                    .path("/")
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        replicaRoutingDataSource.beginRequest(write || wroteRecently(request, now));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            replicaRoutingDataSource.endRequest();
+        }
+    }
+
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) return false;
+
+        try {
+            long elapsed = now - Long.parseLong(cookie.getValue());
+            return elapsed >= 0 && elapsed < readYourWritesMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
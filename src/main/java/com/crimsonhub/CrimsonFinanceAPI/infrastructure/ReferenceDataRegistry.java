@@ -0,0 +1,176 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro em memória das tabelas de referência: {@code account_type}, {@code account_company},
+ * {@code card_flag}, {@code transaction_type} e {@code category}.
+ * <p>
+ * As tabelas são carregadas uma única vez na inicialização e mantidas em um snapshot imutável,
+ * indexado por id. Assim, as consultas de listagem retornam apenas os ids e os nomes são resolvidos
+ * aqui, sem junções, e a validação dos ids recebidos nas requisições não acessa o banco.
+ * </p>
+ * <p>
+ * O snapshot só é substituído por {@link #refresh()}, chamado explicitamente pelo endpoint de
+ * manutenção ou quando um id desconhecido é consultado; neste último caso, a recarga ocorre no
+ * máximo uma vez a cada intervalo configurado, para que ids inválidos não gerem consultas em massa.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Value("${reference-data.refresh-on-miss-interval-seconds:30}")
+    private long refreshOnMissIntervalSeconds;
+
+    private volatile Snapshot snapshot;
+
+    private volatile long lastRefreshNanos;
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Recarrega todas as tabelas de referência e substitui o snapshot atual.
+     *
+     * @return A quantidade total de registros carregados.
+     */
+    public synchronized int refresh() {
+        Snapshot loaded = new Snapshot(
+                load("account_type"),
+                load("account_company"),
+                load("card_flag"),
+                load("transaction_type"),
+                load("category"));
+
+        // Os nomes fazem parte das listagens; se mudaram, as ETags já emitidas deixam de valer.
+        if (snapshot != null && !snapshot.equals(loaded))
+            dataVersionRegistry.invalidateAll();
+
+        snapshot = loaded;
+        lastRefreshNanos = System.nanoTime();
+
+        return loaded.size();
+    }
+
+    public String accountTypeName(Long id) {
+        return resolve(id, Snapshot::accountTypes);
+    }
+
+    public String accountCompanyName(Long id) {
+        return resolve(id, Snapshot::accountCompanies);
+    }
+
+    public String cardFlagName(Long id) {
+        return resolve(id, Snapshot::cardFlags);
+    }
+
+    public String transactionTypeName(Long id) {
+        return resolve(id, Snapshot::transactionTypes);
+    }
+
+    public String categoryName(Long id) {
+        return resolve(id, Snapshot::categories);
+    }
+
+    /**
+     * Ids das categorias cujo nome contém o termo, sem diferenciar maiúsculas de minúsculas.
+     */
+    public List<Long> findCategoryIdsByName(String term) {
+        String normalized = term.toLowerCase(Locale.ROOT);
+        return snapshot.categories().entrySet().stream()
+                .filter(category -> category.getValue().toLowerCase(Locale.ROOT).contains(normalized))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Verifica se o id informado existe em {@code account_type}.
+     *
+     * @throws InvalidRequestParameterException Se o id for nulo ou desconhecido.
+     */
+    public void requireAccountType(Long id) {
+        require(id, "type", Snapshot::accountTypes);
+    }
+
+    public void requireAccountCompany(Long id) {
+        require(id, "company", Snapshot::accountCompanies);
+    }
+
+    public void requireCardFlag(Long id) {
+        require(id, "flag", Snapshot::cardFlags);
+    }
+
+    public void requireTransactionType(Long id) {
+        require(id, "type", Snapshot::transactionTypes);
+    }
+
+    public void requireCategory(Long id) {
+        require(id, "category", Snapshot::categories);
+    }
+
+    private void require(Long id, String parameter, Table table) {
+        if (id == null || resolve(id, table) == null)
+            throw new InvalidRequestParameterException(parameter);
+    }
+
+    private String resolve(Long id, Table table) {
+        if (id == null) return null;
+
+        String name = table.of(snapshot).get(id);
+        if (name != null) return name;
+
+        refreshOnMiss();
+        return table.of(snapshot).get(id);
+    }
+
+    private synchronized void refreshOnMiss() {
+        if (System.nanoTime() - lastRefreshNanos >= TimeUnit.SECONDS.toNanos(refreshOnMissIntervalSeconds))
+            refresh();
+    }
+
+    private Map<Long, String> load(String tableName) {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM " + tableName,
+                rs -> { names.put(rs.getLong("id"), rs.getString("name")); });
+        return Map.copyOf(names);
+    }
+
+    @FunctionalInterface
+    private interface Table {
+        Map<Long, String> of(Snapshot snapshot);
+    }
+
+    private record Snapshot(Map<Long, String> accountTypes,
+                            Map<Long, String> accountCompanies,
+                            Map<Long, String> cardFlags,
+                            Map<Long, String> transactionTypes,
+                            Map<Long, String> categories) {
+
+        int size() {
+            return accountTypes.size() + accountCompanies.size() + cardFlags.size() + transactionTypes.size() + categories.size();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * DataSource que envia o trabalho de transações somente leitura para a réplica e todo o resto para o primário.
+ * <p>
+ * A decisão é tomada quando a conexão é de fato obtida, por isso este DataSource deve ser envolvido por um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: assim a marcação
+ * {@code readOnly} da transação já está definida no momento da escolha.
+ * </p>
+ * <p>
+ * O primário é usado mesmo em transações somente leitura quando:
+ * <ul>
+ *     <li>não há réplica configurada;</li>
+ *     <li>a última verificação da réplica falhou ou o atraso de replicação passou do limite;</li>
+ *     <li>a requisição foi iniciada por {@link #beginRequest(boolean)} para ler as próprias escritas, o que
+ *     {@link ReadYourWritesFilter} faz para clientes que escreveram há menos tempo que a janela configurada;</li>
+ *     <li>uma leitura anterior da mesma requisição já foi ao primário;</li>
+ *     <li>a réplica recusou a conexão, caso em que ela é marcada como indisponível até a próxima verificação.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Dentro de uma requisição, as leituras só passam da réplica para o primário, nunca o contrário, inclusive nas
+ * tarefas repassadas a outras threads por {@link #propagate(Callable)}. Assim, dados lidos depois de uma ETag
+ * nunca são mais antigos que ela.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String REPLICA_LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final long maxLagMillis;
+
+    private volatile boolean replicaAvailable;
+
+    private volatile long replicaLagMillis = -1;
+
+    private final ThreadLocal<RequestRoute> requestRoute = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+
+        setTargetDataSources(replica == null
+                ? Map.of(Target.PRIMARY, primary)
+                : Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Inicia o roteamento de uma requisição na thread atual, até {@link #endRequest()}.
+     *
+     * @param ownWrites Se verdadeiro, todas as leituras da requisição vão para o primário.
+     */
+    public void beginRequest(boolean ownWrites) {
+        requestRoute.set(new RequestRoute(ownWrites));
+    }
+
+    public void endRequest() {
+        requestRoute.remove();
+    }
+
+    /**
+     * Repassa o roteamento da requisição atual para uma tarefa executada em outra thread.
+     */
+    public <T> Callable<T> propagate(Callable<T> task) {
+        RequestRoute route = requestRoute.get();
+        if (route == null) return task;
+
+        return () -> {
+            requestRoute.set(route);
+            try {
+                return task.call();
+            } finally {
+                requestRoute.remove();
+            }
+        };
+    }
+
+    /**
+     * Verifica a réplica e atualiza o atraso de replicação. Sem réplica configurada, não faz nada.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:1000}")
+    public void checkReplica() {
+        if (replica == null) return;
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(1);
+
+            ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY);
+            resultSet.next();
+            replicaLagMillis = resultSet.getLong(1);
+            replicaAvailable = replicaLagMillis <= maxLagMillis;
+        } catch (SQLException e) {
+            replicaLagMillis = -1;
+            replicaAvailable = false;
+        }
+    }
+
+    /**
+     * Fecha o pool da réplica; o pool do primário é um bean próprio e é fechado pelo contêiner.
+     */
+    public void close() {
+        if (replica instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * @return O atraso de replicação medido na última verificação, em milissegundos, ou {@code -1} se desconhecido.
+     */
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Target.REPLICA)
+            return primary.getConnection();
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaAvailable = false;
+            stickToPrimary();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replica == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+            return Target.PRIMARY;
+
+        RequestRoute route = requestRoute.get();
+        if (route != null && route.primary)
+            return Target.PRIMARY;
+
+        if (replicaAvailable)
+            return Target.REPLICA;
+
+        stickToPrimary();
+        return Target.PRIMARY;
+    }
+
+    private void stickToPrimary() {
+        RequestRoute route = requestRoute.get();
+        if (route != null) route.primary = true;
+    }
+
+    private static final class RequestRoute {
+
+        private volatile boolean primary;
+
+        private RequestRoute(boolean primary) {
+            this.primary = primary;
+        }
+    }
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+}
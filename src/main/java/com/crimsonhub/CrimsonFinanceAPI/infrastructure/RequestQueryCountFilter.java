@@ -0,0 +1,56 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registra, por endpoint, quantos comandos SQL cada requisição executou através do Hibernate.
+ * <p>
+ * Executa antes dos filtros de segurança, para incluir também a consulta do perfil autenticado.
+ * O endpoint é identificado pelo padrão da rota (por exemplo, {@code /api/accounts/transactions/{accountId}}),
+ * mantendo a cardinalidade da métrica limitada.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "hibernate.request.statements";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCountStatementInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = QueryCountStatementInspector.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Comandos SQL executados pelo Hibernate por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.AuthenticationModeType;
 import com.crimsonhub.CrimsonFinanceAPI.service.ProfileService;
 import com.crimsonhub.CrimsonFinanceAPI.service.TokenService;
 import jakarta.servlet.FilterChain;
@@ -7,6 +9,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,6 +39,9 @@ public class SecurityFilter extends OncePerRequestFilter {
     @Autowired
     private ProfileService profileService;
 
+    @Value("${security.jwt.authentication-mode}")
+    private AuthenticationModeType authenticationMode;
+
     /**
      * Método principal do filtro que executa a lógica de validação do token.
      *
@@ -50,15 +56,44 @@ public class SecurityFilter extends OncePerRequestFilter {
         var token = this.recoverToken(request);
 
         if (token != null) {
-            var email = tokenService.validateToken(token);
-            UserDetails profile = profileService.loadUserByUsername(email);
+            var authentication = authenticationMode == AuthenticationModeType.STATELESS
+                    ? this.statelessAuthentication(token)
+                    : this.databaseAuthentication(tokenService.validateToken(token));
 
-            var authentication = new UsernamePasswordAuthenticationToken(profile, null, profile.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null)
+                SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Constrói a autenticação carregando o perfil associado ao e-mail do token.
+     *
+     * @param email O e-mail contido no token.
+     * @return A autenticação do perfil carregado.
+     */
+    private UsernamePasswordAuthenticationToken databaseAuthentication(String email) {
+        UserDetails profile = profileService.loadUserByUsername(email);
+        return new UsernamePasswordAuthenticationToken(profile, null, profile.getAuthorities());
+    }
+
+    /**
+     * Constrói a autenticação apenas a partir das claims do token, sem consultar o banco de dados.
+     * Tokens emitidos sem a claim de papel são autenticados pelo modo baseado em banco de dados.
+     *
+     * @param token O token JWT recebido.
+     * @return A autenticação do token, ou {@code null} se o token for inválido.
+     */
+    private UsernamePasswordAuthenticationToken statelessAuthentication(String token) {
+        DecodedJWT decodedJWT = tokenService.decodeToken(token);
+        if (decodedJWT == null) return null;
+
+        TokenPrincipal principal = tokenService.getPrincipal(decodedJWT);
+        if (principal == null) return this.databaseAuthentication(decodedJWT.getSubject());
+
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.role().getAuthorities());
+    }
+
     /**
      * Método auxiliar para recuperar o token JWT do cabeçalho "Authorization".
      *
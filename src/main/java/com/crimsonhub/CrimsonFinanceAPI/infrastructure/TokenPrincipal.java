@@ -0,0 +1,26 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RoleType;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal construído a partir das claims de um token JWT verificado, usado no modo
+ * {@link com.crimsonhub.CrimsonFinanceAPI.domain.type.AuthenticationModeType#STATELESS}.
+ *
+ * @param profileId Identificador do perfil autenticado.
+ * @param email E-mail do perfil autenticado.
+ * @param role Papel do perfil autenticado.
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public record TokenPrincipal(Long profileId,
+                             String email,
+                             RoleType role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
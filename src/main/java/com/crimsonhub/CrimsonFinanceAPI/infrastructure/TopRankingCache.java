@@ -0,0 +1,100 @@
+package com.crimsonhub.CrimsonFinanceAPI.infrastructure;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardsDashboardProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionTopProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos rankings do painel: as maiores transações de conta por perfil e tipo, e os cartões
+ * com maior fatura por perfil.
+ * <p>
+ * Cada entrada guarda a lista completa do ranking, já limitada ao tamanho exibido, e é indexada
+ * também pela versão do perfil em {@link DataVersionRegistry}, lida na mesma transação que carregaria
+ * o ranking. Toda escrita que altera um ranking incrementa essa versão, então uma entrada nunca é
+ * servida para uma versão mais nova que a dos dados que contém, nem por outras instâncias: após uma
+ * escrita, a próxima consulta recarrega o ranking, e a ETag da resposta continua descrevendo os dados.
+ * Entradas de versões antigas deixam de ser usadas e expiram após {@code top-ranking.ttl-seconds}.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class TopRankingCache {
+
+    public static final int TOP_TRANSACTIONS = 5;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Value("${top-ranking.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${top-ranking.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<TransactionKey, List<TransactionTopProjection>> transactions;
+
+    private Cache<CardKey, List<CardsDashboardProjection>> cards;
+
+    @PostConstruct
+    public void init() {
+        transactions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        cards = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, transactions, "top-transactions");
+        CaffeineCacheMetrics.monitor(meterRegistry, cards, "top-cards");
+    }
+
+    /**
+     * Retorna o ranking de transações da versão atual do perfil. Deve ser chamado dentro da transação
+     * somente leitura em que o {@code loader} consulta o banco.
+     */
+    public List<TransactionTopProjection> topTransactions(Long profileId, Long transactionTypeId, Supplier<List<TransactionTopProjection>> loader) {
+        TransactionKey cacheKey = new TransactionKey(profileId, transactionTypeId, version(profileId));
+        return transactions.get(cacheKey, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Retorna o ranking de cartões da versão atual do perfil. Deve ser chamado dentro da transação
+     * somente leitura em que o {@code loader} consulta o banco.
+     */
+    public List<CardsDashboardProjection> topCards(Long profileId, Supplier<List<CardsDashboardProjection>> loader) {
+        return cards.get(new CardKey(profileId, version(profileId)), key -> List.copyOf(loader.get()));
+    }
+
+    private String version(Long profileId) {
+        return dataVersionRegistry.etag(DataVersionScopeType.PROFILE, profileId);
+    }
+
+    private record TransactionKey(Long profileId, Long transactionTypeId, String version) {
+    }
+
+    private record CardKey(Long profileId, String version) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.crimsonhub.CrimsonFinanceAPI.mapper;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountCreateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountUpdateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Account;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeamento entre os DTOs de conta e a entidade {@link Account}.
+ * <p>
+ * Todos os campos do DTO são copiados, inclusive valores nulos, como fazia o mapeamento automático
+ * anterior; campos ausentes no DTO mantêm o valor da entidade.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class AccountMapper {
+
+    public Account toEntity(AccountCreateDTO data) {
+        Account account = new Account();
+        account.setInitialBalance(data.initialBalance());
+        account.setCompany(data.company());
+        account.setType(data.type());
+        return account;
+    }
+
+    public void update(AccountUpdateDTO data, Account account) {
+        account.setCurrentBalance(data.currentBalance());
+        account.setCompany(data.company());
+    }
+}
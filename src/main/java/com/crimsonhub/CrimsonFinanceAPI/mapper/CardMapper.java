@@ -0,0 +1,47 @@
+package com.crimsonhub.CrimsonFinanceAPI.mapper;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardAssignDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardUpdateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceAssignDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Card;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Invoice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeamento entre os DTOs de cartão e fatura e as entidades {@link Card} e {@link Invoice}.
+ * <p>
+ * Um cartão novo começa com {@code currentExpenses} igual a zero, valor padrão da entidade; os dias de
+ * fechamento e de vencimento, quando omitidos, também ficam com o padrão da entidade.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class CardMapper {
+
+    public Card toEntity(CardAssignDTO data) {
+        Card card = new Card();
+        card.setCreditLimit(data.creditLimit());
+        card.setFlag(data.flag());
+        card.setDescription(data.description());
+        if (data.closingDay() != null) card.setClosingDay(data.closingDay());
+        if (data.dueDay() != null) card.setDueDay(data.dueDay());
+        return card;
+    }
+
+    public void update(CardUpdateDTO data, Card card) {
+        card.setCreditLimit(data.creditLimit());
+        card.setDescription(data.description());
+    }
+
+    public Invoice toEntity(InvoiceAssignDTO data) {
+        Invoice invoice = new Invoice();
+        invoice.setAmountDue(data.amountDue());
+        invoice.setDateDue(data.dateDue());
+        invoice.setClosingDate(data.closingDate());
+        invoice.setPaid(data.paid());
+        return invoice;
+    }
+}
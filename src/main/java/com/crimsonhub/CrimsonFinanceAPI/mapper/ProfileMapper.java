@@ -0,0 +1,37 @@
+package com.crimsonhub.CrimsonFinanceAPI.mapper;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.profile.ProfileUpdateDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.RegisterDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeamento entre os DTOs de cadastro e atualização de perfil e a entidade {@link Profile}.
+ * <p>
+ * A senha é copiada sem codificação; cabe ao serviço substituí-la pelo hash antes de salvar.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class ProfileMapper {
+
+    public Profile toEntity(RegisterDTO data) {
+        Profile profile = new Profile();
+        profile.setEmail(data.email());
+        profile.setPassword(data.password());
+        profile.setFullName(data.fullName());
+        return profile;
+    }
+
+    public void update(ProfileUpdateDTO.UpdatedProfile data, Profile profile) {
+        profile.setFullName(data.fullName());
+        profile.setPreferredName(data.preferredName());
+        profile.setBirthday(data.birthday());
+        profile.setPhone(data.phone());
+        profile.setNationality(data.nationality());
+        profile.setCep(data.cep());
+    }
+}
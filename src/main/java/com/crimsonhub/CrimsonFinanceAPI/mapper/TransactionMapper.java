@@ -0,0 +1,40 @@
+package com.crimsonhub.CrimsonFinanceAPI.mapper;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.AccountTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.CardTransaction;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeamento de {@link TransactionInsertDTO} para as entidades de transação de conta e de cartão.
+ * <p>
+ * Perfil, conta e cartão não fazem parte do DTO e são atribuídos pelo serviço.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Component
+public class TransactionMapper {
+
+    public AccountTransaction toAccountTransaction(TransactionInsertDTO data) {
+        AccountTransaction transaction = new AccountTransaction();
+        transaction.setAmount(data.amount());
+        transaction.setType(data.type());
+        transaction.setDescription(data.description());
+        transaction.setTransactionDate(data.transactionDate());
+        transaction.setCategory(data.category());
+        return transaction;
+    }
+
+    public CardTransaction toCardTransaction(TransactionInsertDTO data) {
+        CardTransaction transaction = new CardTransaction();
+        transaction.setAmount(data.amount());
+        transaction.setType(data.type());
+        transaction.setDescription(data.description());
+        transaction.setTransactionDate(data.transactionDate());
+        transaction.setCategory(data.category());
+        return transaction;
+    }
+}
@@ -1,14 +1,16 @@
 package com.crimsonhub.CrimsonFinanceAPI.repository;
 
-import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
-import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionTopResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.AccountTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionTopProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, Long> {
@@ -16,23 +18,57 @@ public interface AccountTransactionRepository extends JpaRepository<AccountTrans
     @Query(value = "SELECT " +
             "at.id, " +
             "at.amount, " +
-            "c.name AS categoryName, " +
+            "CAST(at.transaction_type_id AS BIGINT) AS transactionTypeId, " +
             "at.description, " +
             "at.transaction_date AS transactionDate, " +
-            "tt.name AS transactionTypeName " +
+            "at.category_id AS categoryId " +
             "FROM account_transaction at " +
-            "JOIN category c ON at.category_id = c.id " +
-            "JOIN transaction_type tt ON at.transaction_type_id = tt.id " +
             "WHERE at.account_id = :accountId", nativeQuery = true)
-    List<TransactionResponseDTO> findTransactionsByAccountId(Long accountId);
+    List<TransactionProjection> findTransactionsByAccountId(Long accountId);
 
-    @Query(value = "SELECT SUM(at.amount) FROM account_transaction at WHERE at.profile_id = :profileId AND at.transaction_type_id = :transactionTypeId", nativeQuery = true)
-    BigDecimal getTotalAmountByTransactionType(Long profileId, Long transactionTypeId);
+    @Query(value = "SELECT " +
+            "at.id, " +
+            "at.amount, " +
+            "CAST(at.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "at.description, " +
+            "at.transaction_date AS transactionDate, " +
+            "at.category_id AS categoryId " +
+            "FROM account_transaction at " +
+            "WHERE at.account_id = :accountId " +
+            "ORDER BY at.transaction_date DESC, at.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<TransactionProjection> findFirstTransactionPageByAccountId(Long accountId, int limit);
+
+    @Query(value = "SELECT " +
+            "at.id, " +
+            "at.amount, " +
+            "CAST(at.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "at.description, " +
+            "at.transaction_date AS transactionDate, " +
+            "at.category_id AS categoryId " +
+            "FROM account_transaction at " +
+            "WHERE at.account_id = :accountId " +
+            "AND at.transaction_date <= :transactionDate " +
+            "AND (at.transaction_date, at.id) < (:transactionDate, :id) " +
+            "ORDER BY at.transaction_date DESC, at.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<TransactionProjection> findTransactionPageByAccountId(Long accountId, Date transactionDate, Long id, int limit);
 
-    @Query(value = "SELECT at.id, at.amount, c.name AS categoryName FROM account_transaction at " +
-            "JOIN category c ON at.category_id = c.id " +
+    @Query(value = "SELECT at.id, at.amount, at.category_id AS categoryId FROM account_transaction at " +
             "WHERE at.profile_id = :profileId " +
             "AND at.transaction_type_id = :type " +
-            "ORDER BY at.amount DESC limit 5", nativeQuery = true)
-    List<TransactionTopResponseDTO> findTopTransactionsByType(Long profileId, Long type);
+            "ORDER BY at.amount DESC, at.id DESC limit 5", nativeQuery = true)
+    List<TransactionTopProjection> findTopTransactionsByType(Long profileId, Long type);
+
+    /**
+     * Insere a transação herdando o perfil da conta em um único comando, sem consulta prévia.
+     *
+     * @return O perfil da transação, ou vazio se a conta não existir.
+     */
+    @Query(value = "INSERT INTO account_transaction (id, profile_id, account_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+            "SELECT :id, a.profile_id, a.id, :amount, :transactionTypeId, :description, :transactionDate, :categoryId " +
+            "FROM account a " +
+            "WHERE a.id = :accountId " +
+            "RETURNING profile_id", nativeQuery = true)
+    Optional<Long> insertTransaction(Long id, Long accountId, BigDecimal amount, Long transactionTypeId, String description, Date transactionDate, Long categoryId);
 }
@@ -1,9 +1,10 @@
 package com.crimsonhub.CrimsonFinanceAPI.repository;
 
-import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardListResponseDTO;
-import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardsDashboardResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Card;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardListProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardsDashboardProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,23 +18,40 @@ public interface CardRepository extends JpaRepository<Card, Long> {
             "c.id, " +
             "c.credit_limit AS creditLimit, " +
             "c.current_expenses AS currentExpenses, " +
-            "cf.name AS cardFlag, " +
+            "CAST(c.card_flag_id AS BIGINT) AS cardFlagId, " +
             "c.description " +
             "FROM card c " +
-            "JOIN card_flag cf ON c.card_flag_id = cf.id " +
             "WHERE c.profile_id = :profileId", nativeQuery = true)
-    List<CardListResponseDTO> findCardsByProfileId(Long profileId);
+    List<CardListProjection> findCardsByProfileId(Long profileId);
 
-    @Query("SELECT c.currentExpenses FROM Card c WHERE c.profile.id = :profileId")
+    @Query("SELECT COALESCE(SUM(c.currentExpenses), 0) FROM Card c WHERE c.profile.id = :profileId")
     BigDecimal getTotalCardsBalance(Long profileId);
 
     @Query(value = "SELECT " +
             "c.id," +
-            "cf.name AS cardFlag, " +
+            "CAST(c.card_flag_id AS BIGINT) AS cardFlagId, " +
             "c.description " +
             "FROM card c " +
-            "JOIN card_flag cf ON c.card_flag_id = cf.id " +
             "WHERE c.profile_id = :profileId " +
             "ORDER BY c.current_expenses DESC LIMIT 3", nativeQuery = true)
-    List<CardsDashboardResponseDTO> findTopCardsByProfileId(Long profileId);
+    List<CardsDashboardProjection> findTopCardsByProfileId(Long profileId);
+
+    /**
+     * Soma {@code delta} às despesas do cartão se o resultado couber no limite de crédito; a verificação
+     * e o incremento são um único comando, sem leitura prévia. Deltas negativos sempre são aplicados.
+     *
+     * @return 1 se as despesas foram atualizadas, 0 se o cartão não existe ou o limite seria excedido.
+     */
+    @Modifying
+    @Query(value = "UPDATE card SET current_expenses = current_expenses + :delta " +
+            "WHERE id = :cardId " +
+            "AND (:delta <= 0 OR current_expenses + :delta <= credit_limit)", nativeQuery = true)
+    int chargeExpenses(Long cardId, BigDecimal delta);
+
+    /**
+     * Soma {@code delta} às despesas do cartão sem verificar o limite, para desfazer lançamentos já aceitos.
+     */
+    @Modifying
+    @Query(value = "UPDATE card SET current_expenses = current_expenses + :delta WHERE id = :cardId", nativeQuery = true)
+    int adjustExpenses(Long cardId, BigDecimal delta);
 }
@@ -1,13 +1,15 @@
 package com.crimsonhub.CrimsonFinanceAPI.repository;
 
-import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.CardTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CardTransactionRepository extends JpaRepository<CardTransaction, Long> {
@@ -15,16 +17,69 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
     @Query(value = "SELECT " +
             "ct.id, " +
             "ct.amount, " +
-            "c.name AS categoryName, " +
+            "CAST(ct.transaction_type_id AS BIGINT) AS transactionTypeId, " +
             "ct.description, " +
             "ct.transaction_date AS transactionDate, " +
-            "tt.name AS transactionTypeName " +
+            "ct.category_id AS categoryId " +
             "FROM card_transaction ct " +
-            "JOIN category c ON ct.category_id = c.id " +
-            "JOIN transaction_type tt ON ct.transaction_type_id = tt.id " +
             "WHERE ct.card_id = :cardId", nativeQuery = true)
-    List<TransactionResponseDTO> findTransactionsByCardId(Long cardId);
+    List<TransactionProjection> findTransactionsByCardId(Long cardId);
 
-    @Query(value = "SELECT SUM(ct.amount) FROM card_transaction ct WHERE ct.profile_id = :profileId AND ct.transaction_type_id = 2", nativeQuery = true)
-    BigDecimal getTotalExpensesForCard(Long profileId);
+    @Query(value = "SELECT " +
+            "ct.id, " +
+            "ct.amount, " +
+            "CAST(ct.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "ct.description, " +
+            "ct.transaction_date AS transactionDate, " +
+            "ct.category_id AS categoryId " +
+            "FROM card_transaction ct " +
+            "WHERE ct.card_id = :cardId " +
+            "ORDER BY ct.transaction_date DESC, ct.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<TransactionProjection> findFirstTransactionPageByCardId(Long cardId, int limit);
+
+    @Query(value = "SELECT " +
+            "ct.id, " +
+            "ct.amount, " +
+            "CAST(ct.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "ct.description, " +
+            "ct.transaction_date AS transactionDate, " +
+            "ct.category_id AS categoryId " +
+            "FROM card_transaction ct " +
+            "WHERE ct.card_id = :cardId " +
+            "AND ct.transaction_date <= :transactionDate " +
+            "AND (ct.transaction_date, ct.id) < (:transactionDate, :id) " +
+            "ORDER BY ct.transaction_date DESC, ct.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<TransactionProjection> findTransactionPageByCardId(Long cardId, Date transactionDate, Long id, int limit);
+
+    /**
+     * Insere a transação herdando o perfil do cartão em um único comando, sem consulta prévia.
+     *
+     * @return O perfil da transação, ou vazio se o cartão não existir.
+     */
+    @Query(value = "INSERT INTO card_transaction (id, profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+            "SELECT :id, c.profile_id, c.id, :amount, :transactionTypeId, :description, :transactionDate, :categoryId " +
+            "FROM card c " +
+            "WHERE c.id = :cardId " +
+            "RETURNING profile_id", nativeQuery = true)
+    Optional<Long> insertTransaction(Long id, Long cardId, BigDecimal amount, Long transactionTypeId, String description, Date transactionDate, Long categoryId);
+
+    /**
+     * Como {@link #insertTransaction}, mas soma {@code expenseDelta} às despesas do cartão no mesmo comando.
+     * A transação só é inserida se o cartão existir e, para deltas positivos, se o limite de crédito comportar o valor.
+     *
+     * @return O perfil da transação, ou vazio se o cartão não existir ou o limite seria excedido.
+     */
+    @Query(value = "WITH charged AS (" +
+            "UPDATE card SET current_expenses = current_expenses + :expenseDelta " +
+            "WHERE id = :cardId " +
+            "AND (:expenseDelta <= 0 OR current_expenses + :expenseDelta <= credit_limit) " +
+            "RETURNING id, profile_id) " +
+            "INSERT INTO card_transaction (id, profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+            "SELECT :id, c.profile_id, c.id, :amount, :transactionTypeId, :description, :transactionDate, :categoryId " +
+            "FROM charged c " +
+            "RETURNING profile_id", nativeQuery = true)
+    Optional<Long> insertChargedTransaction(Long id, Long cardId, BigDecimal amount, Long transactionTypeId, String description, Date transactionDate, Long categoryId,
+                                            BigDecimal expenseDelta);
 }
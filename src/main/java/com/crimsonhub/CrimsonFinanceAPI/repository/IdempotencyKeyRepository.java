@@ -0,0 +1,86 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Registro persistente das {@code Idempotency-Key} recebidas, por usuário autenticado.
+ * <p>
+ * Uma chave é reservada antes da execução da requisição, com {@code status_code} nulo, e completada
+ * com a resposta ao final. Cada operação é um único comando fora de transação, então a reserva fica
+ * visível para as demais instâncias assim que é feita.
+ * </p>
+ * <p>
+ * A reserva vale por um prazo contado de {@code claimed_at}. Se a instância que reservou a chave cair
+ * antes de completá-la ou liberá-la, uma repetição com o mesmo conteúdo assume a reserva depois do prazo,
+ * em vez de receber conflito até a chave expirar.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserva a chave para a requisição atual, ou assume uma reserva do mesmo conteúdo que não foi
+     * completada dentro de {@code leaseSeconds}.
+     *
+     * @return {@code true} se a chave foi reservada, {@code false} se ela já existia.
+     */
+    public boolean claim(String principal, String key, String requestHash, long leaseSeconds) {
+        return jdbcTemplate.update("INSERT INTO idempotency_key (principal, idempotency_key, request_hash) VALUES (?, ?, ?) " +
+                "ON CONFLICT (principal, idempotency_key) DO UPDATE SET claimed_at = NOW() " +
+                "WHERE idempotency_key.status_code IS NULL " +
+                "AND idempotency_key.request_hash = EXCLUDED.request_hash " +
+                "AND idempotency_key.claimed_at < NOW() - ? * INTERVAL '1 second'",
+                principal, key, requestHash, leaseSeconds) == 1;
+    }
+
+    public Optional<StoredKey> find(String principal, String key) {
+        return jdbcTemplate.query("SELECT request_hash, status_code, response_body FROM idempotency_key " +
+                        "WHERE principal = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new StoredKey(
+                        rs.getString("request_hash"),
+                        rs.getObject("status_code") == null ? null : rs.getInt("status_code"),
+                        rs.getString("response_body")),
+                principal, key)
+                .stream()
+                .findFirst();
+    }
+
+    public void complete(String principal, String key, int statusCode, String responseBody) {
+        jdbcTemplate.update("UPDATE idempotency_key SET status_code = ?, response_body = ? WHERE principal = ? AND idempotency_key = ?",
+                statusCode, responseBody, principal, key);
+    }
+
+    /**
+     * Libera uma chave reservada cuja requisição falhou, para que o cliente possa repeti-la.
+     */
+    public void release(String principal, String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE principal = ? AND idempotency_key = ? AND status_code IS NULL",
+                principal, key);
+    }
+
+    /**
+     * Remove as chaves mais antigas que o prazo informado.
+     *
+     * @return A quantidade de chaves removidas.
+     */
+    public int deleteOlderThan(long ttlSeconds) {
+        return jdbcTemplate.update("DELETE FROM idempotency_key WHERE created_at < NOW() - ? * INTERVAL '1 second'", ttlSeconds);
+    }
+
+    /**
+     * @param statusCode Status da resposta original, ou {@code null} se a requisição ainda não terminou.
+     */
+    public record StoredKey(String requestHash, Integer statusCode, String responseBody) {
+    }
+}
@@ -1,18 +1,49 @@
 package com.crimsonhub.CrimsonFinanceAPI.repository;
 
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceCalendarResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Invoice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
     @Query("SELECT new com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceResponseDTO(i.id, i.amountDue, i.dateDue, i.closingDate, i.paid) FROM Invoice i WHERE i.card.id = :cardId " +
-            "AND MONTH(i.dateDue) = :month " +
-            "AND YEAR(i.dateDue) = :year")
-    List<InvoiceResponseDTO> findInvoicesInMonthByCardId(Long cardId, int month, int year);
+            "AND i.dateDue >= :start " +
+            "AND i.dateDue < :end " +
+            "ORDER BY i.dateDue")
+    List<InvoiceResponseDTO> findInvoicesByCardIdInRange(Long cardId, Date start, Date end);
+
+    @Query("SELECT new com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceCalendarResponseDTO(i.id, i.card.id, i.amountDue, i.dateDue, i.closingDate, i.paid) FROM Invoice i WHERE i.card.id = :cardId " +
+            "AND i.dateDue >= :start " +
+            "AND i.dateDue < :end " +
+            "ORDER BY i.dateDue")
+    List<InvoiceCalendarResponseDTO> findInvoiceCalendarByCardId(Long cardId, Date start, Date end);
+
+    @Query("SELECT new com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceCalendarResponseDTO(i.id, i.card.id, i.amountDue, i.dateDue, i.closingDate, i.paid) FROM Invoice i WHERE i.card.profile.id = :profileId " +
+            "AND i.dateDue >= :start " +
+            "AND i.dateDue < :end " +
+            "ORDER BY i.dateDue, i.card.id")
+    List<InvoiceCalendarResponseDTO> findInvoiceCalendarByProfileId(Long profileId, Date start, Date end);
+
+    /**
+     * Insere a fatura do cartão em um único comando, sem consulta prévia.
+     *
+     * @return O perfil dono do cartão, ou vazio se o cartão não existir.
+     */
+    @Query(value = "WITH inserted AS (" +
+            "INSERT INTO invoice (card_id, amount_due, date_due, closing_date, paid) " +
+            "SELECT c.id, :amountDue, :dateDue, :closingDate, :paid " +
+            "FROM card c " +
+            "WHERE c.id = :cardId " +
+            "RETURNING card_id) " +
+            "SELECT c.profile_id FROM inserted i JOIN card c ON c.id = i.card_id", nativeQuery = true)
+    Optional<Long> insertInvoice(Long cardId, BigDecimal amountDue, Date dateDue, Date closingDate, boolean paid);
 }
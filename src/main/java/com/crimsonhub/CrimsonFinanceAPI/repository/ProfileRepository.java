@@ -4,8 +4,10 @@ import com.crimsonhub.CrimsonFinanceAPI.domain.dto.profile.ProfileResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.profile.ProfileSummaryResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,4 +31,9 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     @Query("SELECT new com.crimsonhub.CrimsonFinanceAPI.domain.dto.profile.ProfileSummaryResponseDTO" +
             "(p.id, p.email) FROM Profile p")
     List<ProfileSummaryResponseDTO> findAllProfiles();
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Profile p SET p.password = :newPassword WHERE p.id = :id AND p.password = :currentPassword")
+    int updatePasswordIfUnchanged(Long id, String currentPassword, String newPassword);
+}
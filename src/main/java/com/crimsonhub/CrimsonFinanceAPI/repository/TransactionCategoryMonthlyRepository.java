@@ -0,0 +1,93 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.TransactionCategoryMonthly;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.TransactionCategoryMonthlyId;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CategoryTotalProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.List;
+
+@Repository
+public interface TransactionCategoryMonthlyRepository extends JpaRepository<TransactionCategoryMonthly, TransactionCategoryMonthlyId> {
+
+    @Query(value = "SELECT " +
+            "tcm.category_id AS categoryId, " +
+            "CAST(tcm.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "SUM(tcm.total_amount) AS totalAmount, " +
+            "SUM(tcm.transaction_count) AS transactionCount " +
+            "FROM transaction_category_monthly tcm " +
+            "WHERE tcm.profile_id = :profileId " +
+            "AND tcm.month >= :from AND tcm.month < :to " +
+            "GROUP BY tcm.category_id, tcm.transaction_type_id " +
+            "HAVING SUM(tcm.transaction_count) <> 0 " +
+            "ORDER BY totalAmount DESC", nativeQuery = true)
+    List<CategoryTotalProjection> findCategoryTotals(Long profileId, Date from, Date to);
+
+    @Query(value = "SELECT " +
+            "tcm.category_id AS categoryId, " +
+            "CAST(tcm.transaction_type_id AS BIGINT) AS transactionTypeId, " +
+            "SUM(tcm.total_amount) AS totalAmount, " +
+            "SUM(tcm.transaction_count) AS transactionCount " +
+            "FROM transaction_category_monthly tcm " +
+            "WHERE tcm.profile_id = :profileId " +
+            "AND tcm.transaction_type_id = :transactionTypeId " +
+            "AND tcm.month >= :from AND tcm.month < :to " +
+            "GROUP BY tcm.category_id, tcm.transaction_type_id " +
+            "HAVING SUM(tcm.transaction_count) <> 0 " +
+            "ORDER BY totalAmount DESC", nativeQuery = true)
+    List<CategoryTotalProjection> findCategoryTotalsByType(Long profileId, Long transactionTypeId, Date from, Date to);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count) " +
+            "VALUES (:profileId, :categoryId, :transactionTypeId, :month, :amount, :count) " +
+            "ON CONFLICT (profile_id, category_id, transaction_type_id, month) " +
+            "DO UPDATE SET total_amount = transaction_category_monthly.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = transaction_category_monthly.transaction_count + EXCLUDED.transaction_count", nativeQuery = true)
+    void addToMonth(Long profileId, Long categoryId, Long transactionTypeId, Date month, BigDecimal amount, int count);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count) " +
+            "SELECT at.profile_id, at.category_id, at.transaction_type_id, CAST(date_trunc('month', at.transaction_date) AS DATE), -SUM(at.amount), -COUNT(*) " +
+            "FROM account_transaction at " +
+            "WHERE at.account_id = :accountId " +
+            "GROUP BY at.profile_id, at.category_id, at.transaction_type_id, CAST(date_trunc('month', at.transaction_date) AS DATE) " +
+            "ON CONFLICT (profile_id, category_id, transaction_type_id, month) " +
+            "DO UPDATE SET total_amount = transaction_category_monthly.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = transaction_category_monthly.transaction_count + EXCLUDED.transaction_count", nativeQuery = true)
+    void subtractAccountTransactions(Long accountId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count) " +
+            "SELECT ct.profile_id, ct.category_id, ct.transaction_type_id, CAST(date_trunc('month', ct.transaction_date) AS DATE), -SUM(ct.amount), -COUNT(*) " +
+            "FROM card_transaction ct " +
+            "WHERE ct.card_id = :cardId " +
+            "GROUP BY ct.profile_id, ct.category_id, ct.transaction_type_id, CAST(date_trunc('month', ct.transaction_date) AS DATE) " +
+            "ON CONFLICT (profile_id, category_id, transaction_type_id, month) " +
+            "DO UPDATE SET total_amount = transaction_category_monthly.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = transaction_category_monthly.transaction_count + EXCLUDED.transaction_count", nativeQuery = true)
+    void subtractCardTransactions(Long cardId);
+
+    @Modifying
+    @Query(value = "LOCK TABLE transaction_category_monthly IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockTotals();
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_category_monthly", nativeQuery = true)
+    void deleteTotals();
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count) " +
+            "SELECT t.profile_id, t.category_id, t.transaction_type_id, CAST(date_trunc('month', t.transaction_date) AS DATE), SUM(t.amount), COUNT(*) " +
+            "FROM (" +
+            "SELECT at.profile_id, at.category_id, at.transaction_type_id, at.transaction_date, at.amount FROM account_transaction at " +
+            "UNION ALL " +
+            "SELECT ct.profile_id, ct.category_id, ct.transaction_type_id, ct.transaction_date, ct.amount FROM card_transaction ct" +
+            ") t " +
+            "GROUP BY t.profile_id, t.category_id, t.transaction_type_id, CAST(date_trunc('month', t.transaction_date) AS DATE)", nativeQuery = true)
+    int insertTotalsFromTransactions();
+}
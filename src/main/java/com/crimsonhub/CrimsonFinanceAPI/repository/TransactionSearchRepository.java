@@ -0,0 +1,112 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchCriteria;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchCursor;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionSearchProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Busca textual nas transações de conta e de cartão de um perfil.
+ * <p>
+ * Cada tabela é consultada separadamente, com todos os filtros aplicados dentro do próprio ramo,
+ * para que o PostgreSQL use o índice GIN {@code (profile_id, description gin_trgm_ops)} e limite
+ * cada ramo às {@code limit} linhas mais relevantes antes da união. Os filtros ausentes não entram
+ * no SQL, então cada combinação de filtros tem o seu próprio plano.
+ * </p>
+ * <p>
+ * A relevância é a {@code word_similarity} entre o termo e a descrição; transações cuja categoria
+ * corresponde ao termo recebem relevância máxima.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Repository
+public class TransactionSearchRepository {
+
+    private static final RowMapper<TransactionSearchProjection> ROW_MAPPER = (rs, rowNum) -> new TransactionSearchProjection(
+            TransactionSourceType.valueOf(rs.getString("source")),
+            rs.getLong("id"),
+            rs.getLong("parent_id"),
+            rs.getBigDecimal("amount"),
+            rs.getLong("transaction_type_id"),
+            rs.getString("description"),
+            rs.getDate("transaction_date"),
+            rs.getLong("category_id"),
+            rs.getFloat("rank"));
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param categoryIds Categorias cujo nome corresponde ao termo buscado.
+     * @param cursor Posição da última linha da página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de linhas retornadas.
+     */
+    public List<TransactionSearchProjection> search(Long profileId, TransactionSearchCriteria criteria, List<Long> categoryIds,
+                                                    TransactionSearchCursor cursor, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("query", criteria.query())
+                .addValue("pattern", "%" + escapeLike(criteria.query()) + "%")
+                .addValue("categoryIds", categoryIds)
+                .addValue("from", criteria.from())
+                .addValue("to", criteria.to())
+                .addValue("minAmount", criteria.minAmount())
+                .addValue("maxAmount", criteria.maxAmount())
+                .addValue("type", criteria.type())
+                .addValue("limit", limit);
+
+        if (cursor != null) {
+            parameters.addValue("cursorRank", cursor.rank())
+                    .addValue("cursorSource", cursor.source().name())
+                    .addValue("cursorId", cursor.id());
+        }
+
+        String sql = "(" + branch(TransactionSourceType.ACCOUNT, "account_transaction", "account_id", criteria, categoryIds, cursor) + ") " +
+                "UNION ALL " +
+                "(" + branch(TransactionSourceType.CARD, "card_transaction", "card_id", criteria, categoryIds, cursor) + ") " +
+                "ORDER BY rank DESC, source DESC, id DESC " +
+                "LIMIT :limit";
+
+        return jdbcTemplate.query(sql, parameters, ROW_MAPPER);
+    }
+
+    private static String branch(TransactionSourceType source, String table, String parentColumn, TransactionSearchCriteria criteria,
+                                 List<Long> categoryIds, TransactionSearchCursor cursor) {
+        String categoryMatch = categoryIds.isEmpty() ? "FALSE" : "t.category_id IN (:categoryIds)";
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT * FROM (")
+                .append("SELECT '").append(source.name()).append("' AS source, ")
+                .append("t.id, t.").append(parentColumn).append(" AS parent_id, t.amount, t.transaction_type_id, t.description, t.transaction_date, t.category_id, ")
+                .append("CASE WHEN ").append(categoryMatch).append(" THEN 1 ELSE word_similarity(:query, t.description) END::real AS rank ")
+                .append("FROM ").append(table).append(" t ")
+                .append("WHERE t.profile_id = :profileId ")
+                .append("AND (t.description ILIKE :pattern OR :query <% t.description OR ").append(categoryMatch).append(") ");
+
+        if (criteria.from() != null) sql.append("AND t.transaction_date >= :from ");
+        if (criteria.to() != null) sql.append("AND t.transaction_date <= :to ");
+        if (criteria.minAmount() != null) sql.append("AND t.amount >= :minAmount ");
+        if (criteria.maxAmount() != null) sql.append("AND t.amount <= :maxAmount ");
+        if (criteria.type() != null) sql.append("AND t.transaction_type_id = :type ");
+
+        sql.append(") r ");
+        if (cursor != null) sql.append("WHERE (r.rank, r.source, r.id) < (:cursorRank, :cursorSource, :cursorId) ");
+        sql.append("ORDER BY r.rank DESC, r.id DESC LIMIT :limit");
+
+        return sql.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
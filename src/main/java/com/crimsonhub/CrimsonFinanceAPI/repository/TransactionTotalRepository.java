@@ -0,0 +1,66 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.TransactionTotal;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.TransactionTotalId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface TransactionTotalRepository extends JpaRepository<TransactionTotal, TransactionTotalId> {
+
+    @Query(value = "SELECT tt.total_amount FROM transaction_total tt " +
+            "WHERE tt.profile_id = :profileId " +
+            "AND tt.source = :source " +
+            "AND tt.transaction_type_id = :transactionTypeId", nativeQuery = true)
+    BigDecimal findTotalAmount(Long profileId, String source, Long transactionTypeId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount) " +
+            "VALUES (:profileId, :source, :transactionTypeId, :amount) " +
+            "ON CONFLICT (profile_id, source, transaction_type_id) " +
+            "DO UPDATE SET total_amount = transaction_total.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void addToTotal(Long profileId, String source, Long transactionTypeId, BigDecimal amount);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount) " +
+            "SELECT at.profile_id, 'ACCOUNT', at.transaction_type_id, -SUM(at.amount) " +
+            "FROM account_transaction at " +
+            "WHERE at.account_id = :accountId " +
+            "GROUP BY at.profile_id, at.transaction_type_id " +
+            "ON CONFLICT (profile_id, source, transaction_type_id) " +
+            "DO UPDATE SET total_amount = transaction_total.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void subtractAccountTransactions(Long accountId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount) " +
+            "SELECT ct.profile_id, 'CARD', ct.transaction_type_id, -SUM(ct.amount) " +
+            "FROM card_transaction ct " +
+            "WHERE ct.card_id = :cardId " +
+            "GROUP BY ct.profile_id, ct.transaction_type_id " +
+            "ON CONFLICT (profile_id, source, transaction_type_id) " +
+            "DO UPDATE SET total_amount = transaction_total.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void subtractCardTransactions(Long cardId);
+
+    @Modifying
+    @Query(value = "LOCK TABLE transaction_total IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockTotals();
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_total", nativeQuery = true)
+    void deleteTotals();
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount) " +
+            "SELECT at.profile_id, 'ACCOUNT', at.transaction_type_id, SUM(at.amount) " +
+            "FROM account_transaction at " +
+            "GROUP BY at.profile_id, at.transaction_type_id " +
+            "UNION ALL " +
+            "SELECT ct.profile_id, 'CARD', ct.transaction_type_id, SUM(ct.amount) " +
+            "FROM card_transaction ct " +
+            "GROUP BY ct.profile_id, ct.transaction_type_id", nativeQuery = true)
+    int insertTotalsFromTransactions();
+}
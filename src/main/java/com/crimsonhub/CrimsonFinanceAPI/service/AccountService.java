@@ -4,13 +4,20 @@ import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountCreateDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountListResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.account.AccountUpdateDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Account;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.AccountListProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.AccountNotFoundException;
 import com.crimsonhub.CrimsonFinanceAPI.exception.ProfileNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DatabaseErrors;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.AccountMapper;
 import com.crimsonhub.CrimsonFinanceAPI.repository.AccountRepository;
 import com.crimsonhub.CrimsonFinanceAPI.repository.ProfileRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,39 +32,78 @@ public class AccountService {
     private AccountRepository accountRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ReferenceDataRegistry referenceDataRegistry;
 
+    @Autowired
+    private AccountMapper accountMapper;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private TransactionAggregateService transactionAggregateService;
+
+    @Transactional
     public void createAccount(Long profileId, AccountCreateDTO data) {
-        profileRepository.findById(profileId).map(profileEntity -> {
+        referenceDataRegistry.requireAccountCompany(data.company());
+        referenceDataRegistry.requireAccountType(data.type());
 
-            Account accountEntity = modelMapper.map(data, Account.class);
-            accountEntity.setProfile(profileEntity);
-            accountEntity.setCurrentBalance(data.initialBalance());
+        Account accountEntity = accountMapper.toEntity(data);
+        accountEntity.setProfile(profileRepository.getReferenceById(profileId));
+        accountEntity.setCurrentBalance(data.initialBalance());
 
-            return accountRepository.save(accountEntity);
-        })
-                .orElseThrow(() -> new ProfileNotFoundException(profileId));
+        // O perfil é anexado sem consulta; sua existência é verificada pela chave estrangeira no flush.
+        try {
+            accountRepository.saveAndFlush(accountEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (DatabaseErrors.isForeignKeyViolation(e))
+                throw new ProfileNotFoundException(profileId);
+            throw e;
+        }
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
     }
 
+    @Transactional
     public void updateAccount(Long id, AccountUpdateDTO data) {
-        accountRepository.findById(id).map(accountEntity -> {
+        Account saved = accountRepository.findById(id).map(accountEntity -> {
 
-            modelMapper.map(data, accountEntity);
+            accountMapper.update(data, accountEntity);
 
             return accountRepository.save(accountEntity);
         })
                 .orElseThrow(() -> new AccountNotFoundException(id));
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, saved.getProfile().getId());
+        dataVersionRegistry.bump(DataVersionScopeType.ACCOUNT, id);
     }
 
+    @Transactional(readOnly = true)
     public List<AccountListResponseDTO> findAccountsByProfileId(Long profileId) {
-        return accountRepository.findAccountsByProfileId(profileId);
+        List<AccountListProjection> rows = accountRepository.findAccountsByProfileId(profileId);
+        return rows.stream().map(row -> new AccountListResponseDTO(
+                row.id(),
+                row.initialBalance(),
+                row.currentBalance(),
+                referenceDataRegistry.accountCompanyName(row.accountCompanyId()),
+                referenceDataRegistry.accountTypeName(row.accountTypeId())))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalAccountsBalance(Long profileId) {
         return accountRepository.getTotalAccountsBalance(profileId);
     }
 
+    @Transactional
     public void deleteAccount(Long id) {
-        accountRepository.deleteById(id);
+        accountRepository.findById(id).ifPresent(accountEntity -> {
+            // As transações são removidas em cascata pelo banco; os agregados são descontados antes.
+            transactionAggregateService.subtractAccount(id);
+            accountRepository.delete(accountEntity);
+
+            dataVersionRegistry.bump(DataVersionScopeType.PROFILE, accountEntity.getProfile().getId());
+            dataVersionRegistry.bump(DataVersionScopeType.ACCOUNT, id);
+        });
     }
 }
@@ -1,15 +1,27 @@
 package com.crimsonhub.CrimsonFinanceAPI.service;
 
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionCursor;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionPageResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionTopResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Account;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.AccountTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionTopProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.AccountNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.EntityIdAllocator;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.TopRankingCache;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.TransactionMapper;
 import com.crimsonhub.CrimsonFinanceAPI.repository.AccountRepository;
 import com.crimsonhub.CrimsonFinanceAPI.repository.AccountTransactionRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -24,33 +36,132 @@ public class AccountTransactionService {
     private AccountRepository accountRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private TransactionTotalService transactionTotalService;
+
+    @Autowired
+    private TransactionAggregateService transactionAggregateService;
+
+    @Autowired
+    private TransactionIngestionService transactionIngestionService;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private TopRankingCache topRankingCache;
+
+    @Autowired
+    private EntityIdAllocator entityIdAllocator;
 
     public void insertAccountTransaction(Long accountId, TransactionInsertDTO data) {
-        accountRepository.findById(accountId).map(accountEntity -> {
+        validateReferences(data);
+        transactionIngestionService.execute(() -> saveAccountTransaction(accountId, data));
+    }
 
-            AccountTransaction accountTransaction = modelMapper.map(data, AccountTransaction.class);
-            accountTransaction.setProfile(accountTransaction.getProfile());
-            accountTransaction.setAccount(accountEntity);
+    @Transactional
+    public int insertAccountTransactions(Long accountId, List<TransactionInsertDTO> data) {
+        data.forEach(this::validateReferences);
 
-            return accountTransactionRepository.save(accountTransaction);
-        })
+        Account accountEntity = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
+
+        List<AccountTransaction> accountTransactions = data.stream().map(item -> {
+
+            AccountTransaction accountTransaction = transactionMapper.toAccountTransaction(item);
+            accountTransaction.setProfile(accountEntity.getProfile());
+            accountTransaction.setAccount(accountEntity);
+
+            return accountTransaction;
+        }).toList();
+
+        accountTransactionRepository.saveAll(accountTransactions);
+
+        Long profileId = accountEntity.getProfile().getId();
+        transactionAggregateService.addAll(profileId, TransactionSourceType.ACCOUNT, accountTransactions);
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
+        dataVersionRegistry.bump(DataVersionScopeType.ACCOUNT, accountId);
+
+        return accountTransactions.size();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalAmountByTransactionType(Long profileId, Long transactionTypeId) {
-        return accountTransactionRepository.getTotalAmountByTransactionType(profileId, transactionTypeId);
+        return transactionTotalService.getTotal(profileId, TransactionSourceType.ACCOUNT, transactionTypeId);
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionTopResponseDTO> findTopTransactionsByType(Long profileId, Long transactionTypeId) {
-        return accountTransactionRepository.findTopTransactionsByType(profileId, transactionTypeId);
+        List<TransactionTopProjection> rows = topRankingCache.topTransactions(profileId, transactionTypeId,
+                () -> accountTransactionRepository.findTopTransactionsByType(profileId, transactionTypeId));
+        return rows.stream()
+                .map(row -> new TransactionTopResponseDTO(row.id(), row.amount(), referenceDataRegistry.categoryName(row.categoryId())))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionResponseDTO> findTransactionsByAccountId(Long accountId) {
-        return accountTransactionRepository.findTransactionsByAccountId(accountId);
+        return toResponse(accountTransactionRepository.findTransactionsByAccountId(accountId));
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionPageResponseDTO findTransactionPageByAccountId(Long accountId, String cursor, Integer size) {
+        int pageSize = TransactionPageResponseDTO.pageSize(size);
+
+        if (cursor == null)
+            return TransactionPageResponseDTO.of(toResponse(accountTransactionRepository.findFirstTransactionPageByAccountId(accountId, pageSize + 1)), pageSize);
+
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        return TransactionPageResponseDTO.of(
+                toResponse(accountTransactionRepository.findTransactionPageByAccountId(accountId, position.transactionDate(), position.id(), pageSize + 1)),
+                pageSize);
     }
 
+    @Transactional
     public void deleteAccountTransaction(Long transactionId) {
-        accountTransactionRepository.deleteById(transactionId);
+        accountTransactionRepository.findById(transactionId).ifPresent(transaction -> {
+            accountTransactionRepository.delete(transaction);
+            transactionAggregateService.subtract(transaction.getProfile().getId(), TransactionSourceType.ACCOUNT, transaction);
+
+            dataVersionRegistry.bump(DataVersionScopeType.PROFILE, transaction.getProfile().getId());
+            dataVersionRegistry.bump(DataVersionScopeType.ACCOUNT, transaction.getAccount().getId());
+        });
+    }
+
+    private void saveAccountTransaction(Long accountId, TransactionInsertDTO data) {
+        AccountTransaction saved = transactionMapper.toAccountTransaction(data);
+        saved.setId(entityIdAllocator.nextId(AccountTransaction.class));
+
+        // O perfil vem da própria conta no INSERT; se a conta não existir, nenhuma linha é inserida.
+        Long profileId = accountTransactionRepository.insertTransaction(saved.getId(), accountId, saved.getAmount(), saved.getType(),
+                        saved.getDescription(), saved.getTransactionDate(), saved.getCategory())
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+
+        transactionAggregateService.add(profileId, TransactionSourceType.ACCOUNT, saved);
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
+        dataVersionRegistry.bump(DataVersionScopeType.ACCOUNT, accountId);
+    }
+
+    private void validateReferences(TransactionInsertDTO data) {
+        referenceDataRegistry.requireTransactionType(data.type());
+        referenceDataRegistry.requireCategory(data.category());
+    }
+
+    private List<TransactionResponseDTO> toResponse(List<TransactionProjection> rows) {
+        return rows.stream().map(row -> new TransactionResponseDTO(
+                row.id(),
+                row.amount(),
+                referenceDataRegistry.transactionTypeName(row.transactionTypeId()),
+                row.description(),
+                row.transactionDate(),
+                referenceDataRegistry.categoryName(row.categoryId())))
+                .toList();
     }
 }
@@ -0,0 +1,98 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics.CategoryTotalResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.analytics.MonthlyTotalResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CategoryTotalProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.MonthlyTotalProjection;
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionCategoryMonthlyRepository;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionTypeMonthlyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Serviço responsável pelas análises de gastos e receitas por mês, tipo de transação e categoria.
+ * <p>
+ * As consultas leem apenas os acumulados mensais mantidos por {@link TransactionAggregateService},
+ * de modo que o custo depende da quantidade de meses do intervalo e não da quantidade de transações.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class AnalyticsService {
+
+    private static final int MAX_ANALYTICS_RANGE_MONTHS = 60;
+
+    @Autowired
+    private TransactionTypeMonthlyRepository transactionTypeMonthlyRepository;
+
+    @Autowired
+    private TransactionCategoryMonthlyRepository transactionCategoryMonthlyRepository;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    /**
+     * Totais mensais por tipo de transação, do mês {@code from} ao mês {@code to}, inclusive.
+     *
+     * @param transactionTypeId Tipo de transação; se nulo, todos os tipos são retornados.
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyTotalResponseDTO> findMonthlyTotals(Long profileId, YearMonth from, YearMonth to, Long transactionTypeId) {
+        validateRange(from, to);
+
+        List<MonthlyTotalProjection> rows = transactionTypeId == null
+                ? transactionTypeMonthlyRepository.findMonthlyTotals(profileId, firstDayOf(from), firstDayOf(to.plusMonths(1)))
+                : transactionTypeMonthlyRepository.findMonthlyTotalsByType(profileId, transactionTypeId, firstDayOf(from), firstDayOf(to.plusMonths(1)));
+
+        return rows.stream().map(row -> new MonthlyTotalResponseDTO(
+                YearMonth.from(row.month().toLocalDate()),
+                row.transactionTypeId(),
+                referenceDataRegistry.transactionTypeName(row.transactionTypeId()),
+                row.totalAmount(),
+                row.transactionCount()))
+                .toList();
+    }
+
+    /**
+     * Totais por categoria e tipo de transação no intervalo, do maior para o menor valor.
+     *
+     * @param transactionTypeId Tipo de transação; se nulo, todos os tipos são retornados.
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryTotalResponseDTO> findCategoryTotals(Long profileId, YearMonth from, YearMonth to, Long transactionTypeId) {
+        validateRange(from, to);
+
+        List<CategoryTotalProjection> rows = transactionTypeId == null
+                ? transactionCategoryMonthlyRepository.findCategoryTotals(profileId, firstDayOf(from), firstDayOf(to.plusMonths(1)))
+                : transactionCategoryMonthlyRepository.findCategoryTotalsByType(profileId, transactionTypeId, firstDayOf(from), firstDayOf(to.plusMonths(1)));
+
+        return rows.stream().map(row -> new CategoryTotalResponseDTO(
+                row.categoryId(),
+                referenceDataRegistry.categoryName(row.categoryId()),
+                row.transactionTypeId(),
+                referenceDataRegistry.transactionTypeName(row.transactionTypeId()),
+                row.totalAmount(),
+                row.transactionCount()))
+                .toList();
+    }
+
+    private static void validateRange(YearMonth from, YearMonth to) {
+        // from e to são inclusivos: um intervalo de N meses termina em from + (N - 1).
+        if (to.isBefore(from) || from.plusMonths(MAX_ANALYTICS_RANGE_MONTHS - 1).isBefore(to))
+            throw new InvalidRequestParameterException("to");
+    }
+
+    private static Date firstDayOf(YearMonth yearMonth) {
+        return Date.valueOf(yearMonth.atDay(1));
+    }
+}
@@ -3,21 +3,36 @@ package com.crimsonhub.CrimsonFinanceAPI.service;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.*;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Card;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Invoice;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardListProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardsDashboardProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.CardNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
 import com.crimsonhub.CrimsonFinanceAPI.exception.ProfileNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DatabaseErrors;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.TopRankingCache;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.CardMapper;
 import com.crimsonhub.CrimsonFinanceAPI.repository.CardRepository;
 import com.crimsonhub.CrimsonFinanceAPI.repository.InvoiceRepository;
 import com.crimsonhub.CrimsonFinanceAPI.repository.ProfileRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DateTimeException;
+import java.time.YearMonth;
 import java.util.List;
 
 @Service
 public class CardService {
 
+    private static final int MAX_INVOICE_RANGE_MONTHS = 24;
+
     @Autowired
     private ProfileRepository profileRepository;
 
@@ -28,57 +43,131 @@ public class CardService {
     private CardRepository cardRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    private CardMapper cardMapper;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private TransactionAggregateService transactionAggregateService;
 
+    @Autowired
+    private TopRankingCache topRankingCache;
+
+    @Transactional
     public void assignCard(Long profileId, CardAssignDTO data) {
-        profileRepository.findById(profileId).map(profileEntity -> {
+        referenceDataRegistry.requireCardFlag(data.flag());
 
-            Card card = modelMapper.map(data, Card.class);
-            card.setProfile(profileEntity);
+        Card card = cardMapper.toEntity(data);
+        card.setProfile(profileRepository.getReferenceById(profileId));
 
-            return cardRepository.save(card);
-        })
-                .orElseThrow(() -> new ProfileNotFoundException(profileId));
+        try {
+            cardRepository.saveAndFlush(card);
+        } catch (DataIntegrityViolationException e) {
+            if (DatabaseErrors.isForeignKeyViolation(e))
+                throw new ProfileNotFoundException(profileId);
+            throw e;
+        }
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
     }
 
+    @Transactional
     public void updateCard(Long id, CardUpdateDTO data) {
-        cardRepository.findById(id).map(cardEntity -> {
+        Card saved = cardRepository.findById(id).map(cardEntity -> {
 
-            modelMapper.map(data, cardEntity);
+            cardMapper.update(data, cardEntity);
 
             return cardRepository.save(cardEntity);
         })
                 .orElseThrow(() -> new CardNotFoundException(id));
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, saved.getProfile().getId());
+        dataVersionRegistry.bump(DataVersionScopeType.CARD, id);
     }
 
+    @Transactional(readOnly = true)
     public List<CardListResponseDTO> findCardsByProfileId(Long profileId) {
-        return cardRepository.findCardsByProfileId(profileId);
+        List<CardListProjection> rows = cardRepository.findCardsByProfileId(profileId);
+        return rows.stream().map(row -> new CardListResponseDTO(
+                row.id(),
+                row.creditLimit(),
+                row.currentExpenses(),
+                referenceDataRegistry.cardFlagName(row.cardFlagId()),
+                row.description()))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalCardsBalance(Long profileId) {
         return cardRepository.getTotalCardsBalance(profileId);
     }
 
+    @Transactional(readOnly = true)
     public List<CardsDashboardResponseDTO> findTopCardsByProfileId(Long profileId) {
-        return cardRepository.findTopCardsByProfileId(profileId);
+        List<CardsDashboardProjection> rows = topRankingCache.topCards(profileId, () -> cardRepository.findTopCardsByProfileId(profileId));
+        return rows.stream()
+                .map(row -> new CardsDashboardResponseDTO(row.id(), referenceDataRegistry.cardFlagName(row.cardFlagId()), row.description()))
+                .toList();
     }
 
+    @Transactional
     public void assignInvoice(Long id, InvoiceAssignDTO data) {
-        cardRepository.findById(id).map(cardEntity -> {
-
-            Invoice invoice = modelMapper.map(data, Invoice.class);
-            invoice.setCard(cardEntity);
+        Invoice invoice = cardMapper.toEntity(data);
 
-            return invoiceRepository.save(invoice);
-        })
+        Long profileId = invoiceRepository.insertInvoice(id, invoice.getAmountDue(), invoice.getDateDue(), invoice.getClosingDate(), invoice.isPaid())
                 .orElseThrow(() -> new CardNotFoundException(id));
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
+        dataVersionRegistry.bump(DataVersionScopeType.CARD, id);
     }
 
+    @Transactional(readOnly = true)
     public List<InvoiceResponseDTO> findInvoicesInMonthByCardId(Long cardId, int month, int year) {
-        return invoiceRepository.findInvoicesInMonthByCardId(cardId, month, year);
+        YearMonth yearMonth = toYearMonth(year, month);
+        return invoiceRepository.findInvoicesByCardIdInRange(cardId, firstDayOf(yearMonth), firstDayOf(yearMonth.plusMonths(1)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<InvoiceCalendarResponseDTO> findInvoiceCalendarByCardId(Long cardId, YearMonth from, YearMonth to) {
+        validateInvoiceRange(from, to);
+        return invoiceRepository.findInvoiceCalendarByCardId(cardId, firstDayOf(from), firstDayOf(to.plusMonths(1)));
     }
 
+    @Transactional(readOnly = true)
+    public List<InvoiceCalendarResponseDTO> findInvoiceCalendarByProfileId(Long profileId, YearMonth from, YearMonth to) {
+        validateInvoiceRange(from, to);
+        return invoiceRepository.findInvoiceCalendarByProfileId(profileId, firstDayOf(from), firstDayOf(to.plusMonths(1)));
+    }
+
+    @Transactional
     public void deleteCard(Long id) {
-        cardRepository.deleteById(id);
+        cardRepository.findById(id).ifPresent(cardEntity -> {
+            transactionAggregateService.subtractCard(id);
+            cardRepository.delete(cardEntity);
+
+            dataVersionRegistry.bump(DataVersionScopeType.PROFILE, cardEntity.getProfile().getId());
+            dataVersionRegistry.bump(DataVersionScopeType.CARD, id);
+        });
+    }
+
+    private static YearMonth toYearMonth(int year, int month) {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestParameterException("month");
+        }
+    }
+
+    private static void validateInvoiceRange(YearMonth from, YearMonth to) {
+        if (to.isBefore(from) || from.plusMonths(MAX_INVOICE_RANGE_MONTHS - 1).isBefore(to))
+            throw new InvalidRequestParameterException("to");
+    }
+
+    private static Date firstDayOf(YearMonth yearMonth) {
+        return Date.valueOf(yearMonth.atDay(1));
     }
 }
@@ -1,14 +1,25 @@
 package com.crimsonhub.CrimsonFinanceAPI.service;
 
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionCursor;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionPageResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Card;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.CardTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.CardNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.exception.CreditLimitExceededException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.EntityIdAllocator;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.TransactionMapper;
 import com.crimsonhub.CrimsonFinanceAPI.repository.CardRepository;
 import com.crimsonhub.CrimsonFinanceAPI.repository.CardTransactionRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -16,6 +27,12 @@ import java.util.List;
 @Service
 public class CardTransactionService {
 
+    private static final Long EXPENSE_TRANSACTION_TYPE = 2L;
+
+    private static final Long REFUND_TRANSACTION_TYPE = 5L;
+
+    private static final Long PAYMENT_TRANSACTION_TYPE = 6L;
+
     @Autowired
     private CardTransactionRepository cardTransactionRepository;
 
@@ -23,29 +40,154 @@ public class CardTransactionService {
     private CardRepository cardRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private TransactionTotalService transactionTotalService;
+
+    @Autowired
+    private TransactionAggregateService transactionAggregateService;
+
+    @Autowired
+    private TransactionIngestionService transactionIngestionService;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private EntityIdAllocator entityIdAllocator;
 
     public void insertCardTransaction(Long cardId, TransactionInsertDTO data) {
-        cardRepository.findById(cardId).map(cardEntity -> {
+        validateReferences(data);
+        transactionIngestionService.execute(() -> saveCardTransaction(cardId, data));
+    }
 
-            CardTransaction cardTransaction = modelMapper.map(data, CardTransaction.class);
-            cardTransaction.setProfile(cardTransaction.getProfile());
-            cardTransaction.setCard(cardEntity);
+    @Transactional
+    public int insertCardTransactions(Long cardId, List<TransactionInsertDTO> data) {
+        data.forEach(this::validateReferences);
 
-            return cardTransactionRepository.save(cardTransaction);
-        })
+        Card cardEntity = cardRepository.findById(cardId)
                 .orElseThrow(() -> new CardNotFoundException(cardId));
+
+        List<CardTransaction> cardTransactions = data.stream().map(item -> {
+
+            CardTransaction cardTransaction = transactionMapper.toCardTransaction(item);
+            cardTransaction.setProfile(cardEntity.getProfile());
+            cardTransaction.setCard(cardEntity);
+
+            return cardTransaction;
+        }).toList();
+
+        // O limite é verificado contra a soma das despesas do lote; estornos e pagamentos não abrem espaço para elas.
+        BigDecimal charges = cardTransactions.stream().map(CardTransactionService::expenseDelta)
+                .filter(delta -> delta.signum() > 0).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal reversals = cardTransactions.stream().map(CardTransactionService::expenseDelta)
+                .filter(delta -> delta.signum() < 0).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        if (charges.signum() != 0 && cardRepository.chargeExpenses(cardId, charges) == 0)
+            throw new CreditLimitExceededException(cardId);
+        if (reversals.signum() != 0)
+            cardRepository.adjustExpenses(cardId, reversals);
+
+        cardTransactionRepository.saveAll(cardTransactions);
+
+        Long profileId = cardEntity.getProfile().getId();
+        transactionAggregateService.addAll(profileId, TransactionSourceType.CARD, cardTransactions);
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
+        dataVersionRegistry.bump(DataVersionScopeType.CARD, cardId);
+
+        return cardTransactions.size();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalExpensesForCard(Long profileId) {
-        return cardTransactionRepository.getTotalExpensesForCard(profileId);
+        return transactionTotalService.getTotal(profileId, TransactionSourceType.CARD, EXPENSE_TRANSACTION_TYPE);
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionResponseDTO> findTransactionsByCardId(Long cardId) {
-        return cardTransactionRepository.findTransactionsByCardId(cardId);
+        return toResponse(cardTransactionRepository.findTransactionsByCardId(cardId));
     }
 
+    @Transactional(readOnly = true)
+    public TransactionPageResponseDTO findTransactionPageByCardId(Long cardId, String cursor, Integer size) {
+        int pageSize = TransactionPageResponseDTO.pageSize(size);
+
+        if (cursor == null)
+            return TransactionPageResponseDTO.of(toResponse(cardTransactionRepository.findFirstTransactionPageByCardId(cardId, pageSize + 1)), pageSize);
+
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        return TransactionPageResponseDTO.of(
+                toResponse(cardTransactionRepository.findTransactionPageByCardId(cardId, position.transactionDate(), position.id(), pageSize + 1)),
+                pageSize);
+    }
+
+    @Transactional
     public void deleteCardTransaction(Long transactionId) {
-        cardTransactionRepository.deleteById(transactionId);
+        cardTransactionRepository.findById(transactionId).ifPresent(transaction -> {
+            cardTransactionRepository.delete(transaction);
+            transactionAggregateService.subtract(transaction.getProfile().getId(), TransactionSourceType.CARD, transaction);
+
+            BigDecimal expenseDelta = expenseDelta(transaction);
+            if (expenseDelta.signum() != 0) {
+                cardRepository.adjustExpenses(transaction.getCard().getId(), expenseDelta.negate());
+            }
+
+            dataVersionRegistry.bump(DataVersionScopeType.PROFILE, transaction.getProfile().getId());
+            dataVersionRegistry.bump(DataVersionScopeType.CARD, transaction.getCard().getId());
+        });
+    }
+
+    private void saveCardTransaction(Long cardId, TransactionInsertDTO data) {
+        CardTransaction saved = transactionMapper.toCardTransaction(data);
+        saved.setId(entityIdAllocator.nextId(CardTransaction.class));
+
+        BigDecimal expenseDelta = expenseDelta(saved);
+
+        // O limite é verificado e as despesas são atualizadas no mesmo comando do INSERT, sem ler o cartão antes.
+        Long profileId = (expenseDelta.signum() == 0
+                ? cardTransactionRepository.insertTransaction(saved.getId(), cardId, saved.getAmount(), saved.getType(),
+                        saved.getDescription(), saved.getTransactionDate(), saved.getCategory())
+                : cardTransactionRepository.insertChargedTransaction(saved.getId(), cardId, saved.getAmount(), saved.getType(),
+                        saved.getDescription(), saved.getTransactionDate(), saved.getCategory(), expenseDelta))
+                .orElseThrow(() -> expenseDelta.signum() > 0 && cardRepository.existsById(cardId)
+                        ? new CreditLimitExceededException(cardId)
+                        : new CardNotFoundException(cardId));
+
+        transactionAggregateService.add(profileId, TransactionSourceType.CARD, saved);
+
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, profileId);
+        dataVersionRegistry.bump(DataVersionScopeType.CARD, cardId);
+    }
+
+    /**
+     * Efeito da transação sobre as despesas do cartão: despesas somam, estornos e pagamentos subtraem.
+     */
+    private static BigDecimal expenseDelta(CardTransaction transaction) {
+        if (EXPENSE_TRANSACTION_TYPE.equals(transaction.getType()))
+            return transaction.getAmount();
+        if (REFUND_TRANSACTION_TYPE.equals(transaction.getType()) || PAYMENT_TRANSACTION_TYPE.equals(transaction.getType()))
+            return transaction.getAmount().negate();
+        return BigDecimal.ZERO;
+    }
+
+    private void validateReferences(TransactionInsertDTO data) {
+        referenceDataRegistry.requireTransactionType(data.type());
+        referenceDataRegistry.requireCategory(data.category());
+    }
+
+    private List<TransactionResponseDTO> toResponse(List<TransactionProjection> rows) {
+        return rows.stream().map(row -> new TransactionResponseDTO(
+                row.id(),
+                row.amount(),
+                referenceDataRegistry.transactionTypeName(row.transactionTypeId()),
+                row.description(),
+                row.transactionDate(),
+                referenceDataRegistry.categoryName(row.categoryId())))
+                .toList();
     }
 }
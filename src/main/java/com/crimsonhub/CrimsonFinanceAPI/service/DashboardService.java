@@ -0,0 +1,196 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.CardsDashboardResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.dashboard.DashboardResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionTopResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.exception.OperationTimeoutException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReplicaRoutingDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serviço responsável por montar o painel inicial de um perfil em uma única requisição.
+ * <p>
+ * As consultas do painel são independentes entre si e executadas em paralelo, cada uma em uma
+ * thread virtual, de modo que o tempo de resposta é o da consulta mais lenta e não a soma de todas.
+ * Todas compartilham o mesmo prazo: se alguma falhar ou o prazo expirar, a requisição termina com erro.
+ * </p>
+ * <p>
+ * Cada consulta ocupa uma conexão do pool enquanto executa. Para que painéis simultâneos não esgotem o
+ * pool, no máximo {@code dashboard.max-concurrent-queries} consultas do painel executam ao mesmo tempo,
+ * somando todas as requisições; esse valor deve ficar bem abaixo do tamanho do pool. Cada consulta roda
+ * em uma transação somente leitura cujo tempo limite é o restante do prazo, aplicado pelo driver como
+ * tempo limite do comando: ao expirar, o próprio PostgreSQL cancela a consulta, em vez de ela continuar
+ * executando depois que a requisição desistiu.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class DashboardService {
+
+    private static final Long REVENUE_TRANSACTION_TYPE = 1L;
+
+    private static final Long EXPENSE_TRANSACTION_TYPE = 2L;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private AccountTransactionService accountTransactionService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.query-timeout-ms:2000}")
+    private long queryTimeoutMillis;
+
+    @Value("${dashboard.max-concurrent-queries:4}")
+    private int maxConcurrentQueries;
+
+    private ExecutorService executor;
+
+    private Semaphore queryPermits;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+        queryPermits = new Semaphore(maxConcurrentQueries);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Monta o painel do perfil.
+     *
+     * @param profileId O perfil consultado.
+     * @return Saldos, totais e rankings do perfil.
+     * @throws OperationTimeoutException Se alguma consulta não terminar dentro do prazo configurado.
+     */
+    public DashboardResponseDTO getDashboard(Long profileId) {
+        try (QueryScope scope = new QueryScope()) {
+            Future<BigDecimal> accountsBalance = scope.fork(() -> accountService.getTotalAccountsBalance(profileId));
+            Future<BigDecimal> cardsBalance = scope.fork(() -> cardService.getTotalCardsBalance(profileId));
+            Future<List<CardsDashboardResponseDTO>> topCards = scope.fork(() -> cardService.findTopCardsByProfileId(profileId));
+            Future<BigDecimal> totalRevenue = scope.fork(() -> accountTransactionService.getTotalAmountByTransactionType(profileId, REVENUE_TRANSACTION_TYPE));
+            Future<BigDecimal> totalExpenses = scope.fork(() -> accountTransactionService.getTotalAmountByTransactionType(profileId, EXPENSE_TRANSACTION_TYPE));
+            Future<List<TransactionTopResponseDTO>> topRevenues = scope.fork(() -> accountTransactionService.findTopTransactionsByType(profileId, REVENUE_TRANSACTION_TYPE));
+            Future<List<TransactionTopResponseDTO>> topExpenses = scope.fork(() -> accountTransactionService.findTopTransactionsByType(profileId, EXPENSE_TRANSACTION_TYPE));
+
+            scope.join();
+
+            return new DashboardResponseDTO(
+                    accountsBalance.resultNow(),
+                    cardsBalance.resultNow(),
+                    topCards.resultNow(),
+                    totalRevenue.resultNow(),
+                    totalExpenses.resultNow(),
+                    topRevenues.resultNow(),
+                    topExpenses.resultNow());
+        }
+    }
+
+    /**
+     * Conjunto de consultas de uma mesma requisição, com prazo comum. Ao sair do bloco, as consultas que
+     * ainda aguardam permissão são interrompidas; as que já executam terminam pelo tempo limite do comando.
+     */
+    private class QueryScope implements AutoCloseable {
+
+        private final ExecutorCompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queryTimeoutMillis);
+
+        /**
+         * Submete a consulta levando o contexto de segurança e o roteamento entre primário e réplica da requisição.
+         */
+        @SuppressWarnings("unchecked")
+        <T> Future<T> fork(Supplier<T> query) {
+            Callable<T> bounded = () -> execute(query);
+            Callable<T> task = DelegatingSecurityContextCallable.create(replicaRoutingDataSource.propagate(bounded), SecurityContextHolder.getContext());
+            Future<T> future = (Future<T>) completionService.submit((Callable<Object>) task);
+            futures.add(future);
+            return future;
+        }
+
+        /**
+         * Aguarda todas as consultas, falhando assim que a primeira falhar ou o prazo expirar.
+         */
+        void join() {
+            try {
+                for (int completed = 0; completed < futures.size(); completed++) {
+                    Future<Object> future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (future == null)
+                        throw new OperationTimeoutException("dashboard");
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OperationTimeoutException("dashboard");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause)
+                    throw cause;
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        /**
+         * Executa a consulta com uma das permissões do painel, em uma transação somente leitura limitada ao
+         * restante do prazo.
+         */
+        private <T> T execute(Supplier<T> query) throws InterruptedException {
+            if (!queryPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                throw new OperationTimeoutException("dashboard");
+
+            try {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0)
+                    throw new OperationTimeoutException("dashboard");
+
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setReadOnly(true);
+                transaction.setTimeout((int) Math.ceilDiv(remainingMillis, 1000));
+                return transaction.execute(status -> query.get());
+            } finally {
+                queryPermits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.IdempotencyKeyConflictException;
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+import com.crimsonhub.CrimsonFinanceAPI.repository.IdempotencyKeyRepository;
+import com.crimsonhub.CrimsonFinanceAPI.repository.IdempotencyKeyRepository.StoredKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Serviço responsável por tornar idempotentes as requisições que informam o cabeçalho {@code Idempotency-Key}.
+ * <p>
+ * A primeira requisição com uma chave reserva a chave no banco, executa a operação e grava o status e
+ * o corpo da resposta. Repetições com a mesma chave e o mesmo conteúdo recebem a resposta gravada, com
+ * o cabeçalho {@code Idempotent-Replayed}, sem executar a operação novamente. As respostas recentes
+ * ficam também em um cache limitado em memória, que atende as repetições sem acessar o banco.
+ * </p>
+ * <p>
+ * Repetições concorrentes na mesma instância aguardam o resultado da primeira em vez de disputar a
+ * reserva. Se a operação falhar, a reserva é liberada e o erro é repassado às requisições que
+ * aguardavam; uma nova tentativa com a mesma chave executa a operação normalmente. Uma chave reservada
+ * por outra instância que ainda não terminou, ou usada com outro conteúdo, resulta em
+ * {@link IdempotencyKeyConflictException}.
+ * </p>
+ * <p>
+ * Uma reserva que não foi completada em {@code idempotency.lease-seconds}, porque a instância caiu entre
+ * a reserva e a gravação da resposta, é assumida pela próxima repetição. Se a queda ocorreu depois de a
+ * operação ser efetivada, ela é executada de novo; por isso o prazo deve ser bem maior que a duração
+ * máxima da operação.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    @Value("${idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMillis;
+
+    @Value("${idempotency.lease-seconds:60}")
+    private long leaseSeconds;
+
+    private Cache<Key, StoredResponse> responses;
+
+    private final ConcurrentMap<Key, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency");
+    }
+
+    /**
+     * Executa a operação uma única vez por chave.
+     *
+     * @param idempotencyKey O valor do cabeçalho; se nulo, a operação é executada sem controle de idempotência.
+     * @param operation Identifica a operação, para que a mesma chave não seja aceita em outro endpoint.
+     * @param request O corpo da requisição, comparado com o da requisição original.
+     * @param action A operação; sua resposta é gravada e repetida nas próximas requisições com a mesma chave.
+     * @throws IdempotencyKeyConflictException Se a chave pertence a outra requisição ou ainda está em andamento.
+     */
+    public ResponseEntity<?> execute(String idempotencyKey, String operation, Object request, Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) return action.get();
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new InvalidRequestParameterException(HEADER);
+
+        Key key = new Key(principal(), idempotencyKey);
+        String requestHash = fingerprint(operation, request);
+
+        StoredResponse cached = responses.getIfPresent(key);
+        if (cached != null) return replay(key, cached, requestHash);
+
+        CompletableFuture<StoredResponse> pending = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) return replay(key, await(key, leader), requestHash);
+
+        try {
+            return executeOnce(key, requestHash, action, pending);
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Remove as chaves mais antigas que {@code idempotency.ttl-hours}.
+     *
+     * @return A quantidade de chaves removidas.
+     */
+    @Scheduled(cron = "${idempotency.sweep-cron:0 15 * * * *}")
+    public int sweep() {
+        return idempotencyKeyRepository.deleteOlderThan(TimeUnit.HOURS.toSeconds(ttlHours));
+    }
+
+    private ResponseEntity<?> executeOnce(Key key, String requestHash, Supplier<ResponseEntity<?>> action, CompletableFuture<StoredResponse> pending) {
+        if (!idempotencyKeyRepository.claim(key.principal(), key.value(), requestHash, leaseSeconds)) {
+            StoredKey existing = idempotencyKeyRepository.find(key.principal(), key.value())
+                    .orElseThrow(() -> new IdempotencyKeyConflictException(key.value()));
+            if (existing.statusCode() == null)
+                throw new IdempotencyKeyConflictException(key.value());
+
+            StoredResponse stored = new StoredResponse(existing.requestHash(), existing.statusCode(), existing.responseBody());
+            responses.put(key, stored);
+            pending.complete(stored);
+            return replay(key, stored, requestHash);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyKeyRepository.release(key.principal(), key.value());
+            throw e;
+        }
+
+        StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(), serialize(response.getBody()));
+        idempotencyKeyRepository.complete(key.principal(), key.value(), stored.statusCode(), stored.body());
+        responses.put(key, stored);
+        pending.complete(stored);
+
+        return response;
+    }
+
+    private StoredResponse await(Key key, CompletableFuture<StoredResponse> leader) {
+        try {
+            return leader.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException(key.value());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyConflictException(key.value());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ResponseEntity<?> replay(Key key, StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash))
+            throw new IdempotencyKeyConflictException(key.value());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(stored.statusCode()).header(REPLAYED_HEADER, "true");
+        if (stored.body() == null) return response.build();
+
+        return response.contentType(MediaType.APPLICATION_JSON).body(stored.body());
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String serialize(Object body) {
+        if (body == null) return null;
+
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private record Key(String principal, String value) {
+    }
+
+    private record StoredResponse(String requestHash, int statusCode, String body) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.card.InvoiceClosingResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.exception.ServiceOverloadedException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço responsável pelo fechamento periódico das faturas de cartão.
+ * <p>
+ * Para cada cartão, o último fechamento é o dia {@code closing_day} mais recente até a data de
+ * referência, e o período da fatura vai do fechamento anterior (exclusive) até ele (inclusive). O
+ * valor da fatura é a soma das despesas menos os estornos do período, calculada no próprio banco por
+ * um único {@code INSERT ... SELECT} por faixa de ids de cartão. As faixas são executadas em paralelo
+ * em um pool limitado, cada uma em sua própria transação.
+ * </p>
+ * <p>
+ * A execução é idempotente: cartões que já têm fatura com a mesma data de fechamento são ignorados,
+ * então uma execução interrompida pode ser repetida e só gera as faturas que faltam. Um lock
+ * consultivo do PostgreSQL impede que duas instâncias da aplicação fechem faturas ao mesmo tempo.
+ * Cartões sem despesas nem estornos no período não geram fatura.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class InvoiceClosingService {
+
+    private static final long ADVISORY_LOCK_KEY = "invoice-closing".hashCode();
+
+    private static final String CLOSE_CHUNK_QUERY = "INSERT INTO invoice (card_id, amount_due, date_due, closing_date, paid) " +
+            "SELECT p.card_id, GREATEST(SUM(CASE ct.transaction_type_id WHEN 2 THEN ct.amount ELSE -ct.amount END), 0), p.date_due, p.closing_date, FALSE " +
+            "FROM (" +
+            "SELECT c.id AS card_id, " +
+            "d.closing_date, " +
+            "CASE WHEN c.due_day > c.closing_day " +
+            "THEN d.closing_date + (c.due_day - c.closing_day) " +
+            "ELSE (date_trunc('month', d.closing_date) + INTERVAL '1 month')::date + (c.due_day - 1) END AS date_due " +
+            "FROM card c " +
+            "CROSS JOIN LATERAL (SELECT CASE WHEN c.closing_day <= EXTRACT(DAY FROM CAST(:referenceDate AS date)) " +
+            "THEN date_trunc('month', CAST(:referenceDate AS date))::date + (c.closing_day - 1) " +
+            "ELSE (date_trunc('month', CAST(:referenceDate AS date)) - INTERVAL '1 month')::date + (c.closing_day - 1) END AS closing_date) d " +
+            "WHERE c.id >= :fromId AND c.id < :toId" +
+            ") p " +
+            "JOIN card_transaction ct ON ct.card_id = p.card_id " +
+            "AND ct.transaction_date > (p.closing_date - INTERVAL '1 month')::date " +
+            "AND ct.transaction_date <= p.closing_date " +
+            "AND ct.transaction_type_id IN (2, 5) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM invoice i WHERE i.card_id = p.card_id AND i.closing_date = p.closing_date) " +
+            "GROUP BY p.card_id, p.closing_date, p.date_due";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${invoice-closing.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${invoice-closing.parallelism:4}")
+    private int parallelism;
+
+    private ExecutorService executor;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Timer chunkLatency;
+
+    private Counter invoicesCreated;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("invoice-closing-", 0).daemon().factory());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "invoice-closing");
+        chunkLatency = Timer.builder("invoice.closing.chunk").register(meterRegistry);
+        invoicesCreated = Counter.builder("invoice.closing.invoices").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${invoice-closing.cron:0 30 3 * * *}")
+    public void scheduledClose() {
+        tryCloseInvoices(LocalDate.now());
+    }
+
+    /**
+     * Gera as faturas de todos os cartões cujo fechamento mais recente até hoje ainda não foi faturado.
+     *
+     * @throws ServiceOverloadedException Se outro fechamento estiver em andamento.
+     */
+    public InvoiceClosingResponseDTO closeInvoices() {
+        return tryCloseInvoices(LocalDate.now())
+                .orElseThrow(() -> new ServiceOverloadedException("invoice-closing"));
+    }
+
+    private Optional<InvoiceClosingResponseDTO> tryCloseInvoices(LocalDate referenceDate) {
+        // O lock consultivo pertence à sessão; a conexão fica reservada até o fim do fechamento.
+        return jdbcTemplate.execute((ConnectionCallback<Optional<InvoiceClosingResponseDTO>>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)"))
+                return Optional.empty();
+
+            try {
+                return Optional.of(closeAll(Date.valueOf(referenceDate)));
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        });
+    }
+
+    private InvoiceClosingResponseDTO closeAll(Date referenceDate) {
+        long start = System.nanoTime();
+
+        List<Future<Integer>> chunks = new ArrayList<>();
+        jdbcTemplate.query("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM card", (ResultSet rs) -> {
+            long minId = rs.getLong("min_id");
+            if (rs.wasNull()) return;
+
+            long maxId = rs.getLong("max_id");
+            for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+                long chunkFrom = fromId;
+                chunks.add(executor.submit(() -> closeChunk(referenceDate, chunkFrom, chunkFrom + chunkSize)));
+            }
+        });
+
+        long created = 0;
+        RuntimeException failure = null;
+        for (Future<Integer> chunk : chunks) {
+            try {
+                created += chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunks.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                // As demais faixas continuam; as que falharam são refeitas na próxima execução.
+                if (failure == null)
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            }
+        }
+
+        if (created > 0)
+            dataVersionRegistry.invalidateAll();
+        if (failure != null)
+            throw failure;
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        double invoicesPerSecond = elapsedMillis == 0 ? created : created * 1000.0 / elapsedMillis;
+
+        return new InvoiceClosingResponseDTO(referenceDate, chunks.size(), created, elapsedMillis, invoicesPerSecond);
+    }
+
+    private int closeChunk(Date referenceDate, long fromId, long toId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("referenceDate", referenceDate)
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+
+        Integer created = chunkLatency.record(() ->
+                transactionTemplate.execute(status -> namedParameterJdbcTemplate.update(CLOSE_CHUNK_QUERY, parameters)));
+
+        int count = created == null ? 0 : created;
+        invoicesCreated.increment(count);
+        return count;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
@@ -8,16 +8,22 @@ import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.LoginDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.RegisterDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.dto.security.TokenResponseDTO;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.DataVersionScopeType;
 import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidPasswordException;
 import com.crimsonhub.CrimsonFinanceAPI.exception.ProfileExistsException;
 import com.crimsonhub.CrimsonFinanceAPI.exception.ProfileNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.PasswordHasher;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.PrincipalCache;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.ProfileMapper;
 import com.crimsonhub.CrimsonFinanceAPI.repository.ProfileRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,13 +35,19 @@ public class ProfileService implements UserDetailsService {
     private ProfileRepository profileRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private TokenService tokenService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ProfileMapper profileMapper;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
 
     public void registerProfile(RegisterDTO data) {
         Optional<Profile> profileEntity = profileRepository.findByEmail(data.email());
@@ -43,8 +55,8 @@ public class ProfileService implements UserDetailsService {
         if (profileEntity.isPresent())
             throw new ProfileExistsException(data.email());
 
-        Profile profile = modelMapper.map(data, Profile.class);
-        profile.setPassword(passwordEncoder.encode(data.password()));
+        Profile profile = profileMapper.toEntity(data);
+        profile.setPassword(passwordHasher.encode(data.password()));
 
         profileRepository.save(profile);
     }
@@ -56,6 +68,8 @@ public class ProfileService implements UserDetailsService {
         if (passwordDoesNotMatch(data.password(), profileEntity.getPassword()))
             throw new InvalidPasswordException(profileEntity.getId());
 
+        rehashIfNeeded(profileEntity, data.password());
+
         String token = tokenService.generateToken(profileEntity);
 
         return new TokenResponseDTO(token);
@@ -67,35 +81,43 @@ public class ProfileService implements UserDetailsService {
                     if (passwordDoesNotMatch(data.password(), profileEntity.getPassword()))
                         throw new InvalidPasswordException(profileEntity.getId());
 
-                    profileEntity.setPassword(passwordEncoder.encode(data.newPassword()));
+                    profileEntity.setPassword(passwordHasher.encode(data.newPassword()));
 
                     return profileRepository.save(profileEntity);
                 })
                 .orElseThrow(() -> new ProfileNotFoundException(data.email()));
+
+        principalCache.invalidate(data.email());
     }
 
     public void updateProfile(ProfileUpdateDTO data) {
         profileRepository.findByEmail(data.email())
                 .map(profileEntity -> {
-                    if (passwordDoesNotMatch(data.password(), profileEntity.getPassword()))
+                    // Os dados atualizados não são sensíveis; o dono autenticado dispensa a verificação da senha.
+                    if (!isAuthenticatedAs(data.email()) && passwordDoesNotMatch(data.password(), profileEntity.getPassword()))
                         throw new InvalidPasswordException(profileEntity.getId());
 
-                    modelMapper.map(data.updatedProfile(), profileEntity);
+                    profileMapper.update(data.updatedProfile(), profileEntity);
 
                     return profileRepository.save(profileEntity);
                 })
                 .orElseThrow(() -> new ProfileNotFoundException(data.email()));
+
+        principalCache.invalidate(data.email());
     }
 
+    @Transactional(readOnly = true)
     public List<ProfileSummaryResponseDTO> profiles() {
         return profileRepository.findAllProfiles();
     }
 
+    @Transactional(readOnly = true)
     public ProfileSummaryResponseDTO profileSummary(Long id) {
         return profileRepository.findProfileSummaryById(id)
                 .orElseThrow(() -> new ProfileNotFoundException(id));
     }
 
+    @Transactional(readOnly = true)
     public ProfileResponseDTO profile(Long id) {
         return profileRepository.findProfileById(id)
                 .orElseThrow(() -> new ProfileNotFoundException(id));
@@ -103,15 +125,38 @@ public class ProfileService implements UserDetailsService {
 
     public void deleteProfile(Long id) {
         profileRepository.deleteById(id);
+        principalCache.invalidateById(id);
+        dataVersionRegistry.bump(DataVersionScopeType.PROFILE, id);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws ProfileNotFoundException {
-        return profileRepository.findByEmail(email)
-                .orElseThrow(() -> new ProfileNotFoundException(email));
+        Profile profile = principalCache.get(email, key -> profileRepository.findByEmail(key).orElse(null));
+
+        if (profile == null)
+            throw new ProfileNotFoundException(email);
+
+        return profile;
     }
 
     private boolean passwordDoesNotMatch(String password, String databasePassword) {
-        return !passwordEncoder.matches(password, databasePassword);
+        return !passwordHasher.matches(password, databasePassword);
+    }
+
+    /**
+     * Recalcula o hash da senha quando ele foi gerado com um custo menor que o configurado.
+     * A atualização é condicional ao hash lido, para não sobrescrever uma troca de senha concorrente.
+     */
+    private void rehashIfNeeded(Profile profile, String password) {
+        if (!passwordHasher.needsRehash(profile.getPassword()))
+            return;
+
+        if (profileRepository.updatePasswordIfUnchanged(profile.getId(), profile.getPassword(), passwordHasher.encode(password)) > 0)
+            principalCache.invalidate(profile.getEmail());
+    }
+
+    private static boolean isAuthenticatedAs(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() && email != null && email.equals(authentication.getName());
     }
 }
@@ -1,10 +1,16 @@
 package com.crimsonhub.CrimsonFinanceAPI.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.crimsonhub.CrimsonFinanceAPI.domain.entity.Profile;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.RoleType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.TokenPrincipal;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -25,12 +31,31 @@ import java.time.ZoneId;
 @Service
 public class TokenService {
 
+    private static final String PROFILE_ID_CLAIM = "profileId";
+
+    private static final String ROLE_CLAIM = "role";
+
     @Value("${security.jwt.expiration-time}")
     private String expiration;
 
     @Value("${security.jwt.token-secret}")
     private String secretKey;
 
+    /**
+     * Algoritmo e verificador compartilhados; ambos são imutáveis e seguros para uso concorrente.
+     */
+    private Algorithm algorithm;
+
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC256(secretKey);
+        verifier = JWT.require(algorithm)
+                .withIssuer("auth-api")
+                .build();
+    }
+
     /**
      * Gera um token JWT para o perfil fornecido.
      *
@@ -40,11 +65,12 @@ public class TokenService {
      */
     public String generateToken(Profile profile) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
+            RoleType role = profile.getRoleType() == null ? RoleType.USER : profile.getRoleType();
             return JWT.create()
                     .withIssuer("auth-api")
                     .withSubject(profile.getEmail())
-                    .withClaim("profileId", profile.getId())
+                    .withClaim(PROFILE_ID_CLAIM, profile.getId())
+                    .withClaim(ROLE_CLAIM, role.name())
                     .withExpiresAt(genExpirationDate())
                     .sign(algorithm);
 
@@ -60,19 +86,42 @@ public class TokenService {
      * @return O email do perfil associado ao token se for válido, caso contrário retorna uma string vazia.
      */
     public String validateToken(String token) {
+        DecodedJWT decodedJWT = decodeToken(token);
+        return decodedJWT == null ? "" : decodedJWT.getSubject();
+    }
+
+    /**
+     * Verifica a assinatura, o emissor e a expiração de um token JWT.
+     *
+     * @param token O token JWT a ser verificado.
+     * @return O token decodificado, ou {@code null} se ele for inválido.
+     */
+    public DecodedJWT decodeToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            return JWT.require(algorithm)
-                    .withIssuer("auth-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            return verifier.verify(token);
 
         } catch (JWTVerificationException e) {
-            return "";
+            return null;
         }
     }
 
+    /**
+     * Constrói o principal a partir das claims de um token já verificado.
+     *
+     * @param decodedJWT O token verificado por {@link #decodeToken(String)}.
+     * @return O principal do token, ou {@code null} se o token não possuir as claims de perfil e papel
+     *         (tokens emitidos antes da inclusão da claim de papel).
+     */
+    public TokenPrincipal getPrincipal(DecodedJWT decodedJWT) {
+        Claim profileId = decodedJWT.getClaim(PROFILE_ID_CLAIM);
+        Claim role = decodedJWT.getClaim(ROLE_CLAIM);
+
+        if (profileId.isMissing() || role.isMissing())
+            return null;
+
+        return new TokenPrincipal(profileId.asLong(), decodedJWT.getSubject(), RoleType.valueOf(role.asString()));
+    }
+
     /**
      * Gera a data de expiração do token com base no tempo configurado.
      *
@@ -0,0 +1,152 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.FinancialTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionCategoryMonthlyRepository;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionTypeMonthlyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço responsável por manter todos os agregados derivados das transações: o total por tipo
+ * ({@code transaction_total}) e os acumulados mensais por tipo ({@code transaction_type_monthly})
+ * e por categoria ({@code transaction_category_monthly}).
+ * <p>
+ * Os agregados são atualizados na mesma transação que insere ou remove as transações de origem,
+ * por meio de upserts incrementais. Remoções de contas e cartões, que apagam as transações em
+ * cascata, descontam os agregados com uma única instrução por tabela antes da remoção.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionAggregateService {
+
+    @Autowired
+    private TransactionTotalService transactionTotalService;
+
+    @Autowired
+    private TransactionTypeMonthlyRepository transactionTypeMonthlyRepository;
+
+    @Autowired
+    private TransactionCategoryMonthlyRepository transactionCategoryMonthlyRepository;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long profileId, TransactionSourceType source, FinancialTransaction transaction) {
+        addAll(profileId, source, List.of(transaction));
+    }
+
+    /**
+     * Soma um lote de transações aos agregados, com um upsert por chave distinta em vez de um por transação.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(Long profileId, TransactionSourceType source, List<? extends FinancialTransaction> transactions) {
+        apply(profileId, source, transactions, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(Long profileId, TransactionSourceType source, FinancialTransaction transaction) {
+        apply(profileId, source, List.of(transaction), -1);
+    }
+
+    /**
+     * Desconta dos agregados todas as transações da conta. Deve ser chamado antes da remoção da conta.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractAccount(Long accountId) {
+        transactionTotalService.subtractAccount(accountId);
+        transactionTypeMonthlyRepository.subtractAccountTransactions(accountId);
+        transactionCategoryMonthlyRepository.subtractAccountTransactions(accountId);
+    }
+
+    /**
+     * Desconta dos agregados todas as transações do cartão. Deve ser chamado antes da remoção do cartão.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractCard(Long cardId) {
+        transactionTotalService.subtractCard(cardId);
+        transactionTypeMonthlyRepository.subtractCardTransactions(cardId);
+        transactionCategoryMonthlyRepository.subtractCardTransactions(cardId);
+    }
+
+    /**
+     * Recalcula os acumulados mensais a partir das tabelas de transações, com as tabelas bloqueadas
+     * durante o recálculo.
+     *
+     * @return A quantidade de linhas gravadas.
+     */
+    @Transactional
+    public int rebuildMonthly() {
+        transactionTypeMonthlyRepository.lockTotals();
+        transactionCategoryMonthlyRepository.lockTotals();
+
+        transactionTypeMonthlyRepository.deleteTotals();
+        transactionCategoryMonthlyRepository.deleteTotals();
+
+        int rebuilt = transactionTypeMonthlyRepository.insertTotalsFromTransactions()
+                + transactionCategoryMonthlyRepository.insertTotalsFromTransactions();
+
+        dataVersionRegistry.invalidateAll();
+        return rebuilt;
+    }
+
+    private void apply(Long profileId, TransactionSourceType source, List<? extends FinancialTransaction> transactions, int sign) {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        Map<TypeMonth, Delta> typeMonths = new HashMap<>();
+        Map<CategoryMonth, Delta> categoryMonths = new HashMap<>();
+
+        for (FinancialTransaction transaction : transactions) {
+            Date month = Date.valueOf(transaction.getTransactionDate().toLocalDate().withDayOfMonth(1));
+
+            totals.merge(transaction.getType(), transaction.getAmount(), BigDecimal::add);
+            typeMonths.merge(new TypeMonth(transaction.getType(), month), Delta.of(transaction), Delta::plus);
+            categoryMonths.merge(new CategoryMonth(transaction.getCategory(), transaction.getType(), month), Delta.of(transaction), Delta::plus);
+        }
+
+        totals.forEach((type, amount) -> {
+            if (sign > 0) transactionTotalService.add(profileId, source, type, amount);
+            else transactionTotalService.subtract(profileId, source, type, amount);
+        });
+
+        typeMonths.forEach((key, delta) -> transactionTypeMonthlyRepository.addToMonth(
+                profileId, key.type(), key.month(), signed(delta.amount(), sign), delta.count() * sign));
+
+        categoryMonths.forEach((key, delta) -> transactionCategoryMonthlyRepository.addToMonth(
+                profileId, key.category(), key.type(), key.month(), signed(delta.amount(), sign), delta.count() * sign));
+    }
+
+    private static BigDecimal signed(BigDecimal amount, int sign) {
+        return sign > 0 ? amount : amount.negate();
+    }
+
+    private record TypeMonth(Long type, Date month) {
+    }
+
+    private record CategoryMonth(Long category, Long type, Date month) {
+    }
+
+    private record Delta(BigDecimal amount, int count) {
+
+        static Delta of(FinancialTransaction transaction) {
+            return new Delta(transaction.getAmount(), 1);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.ExportFormatType;
+import com.crimsonhub.CrimsonFinanceAPI.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serviço responsável pela exportação do histórico de transações de um perfil.
+ * <p>
+ * As linhas são lidas por um cursor JDBC com tamanho de fetch limitado e escritas diretamente na
+ * resposta, de modo que o consumo de memória não depende do tamanho do histórico. O número de
+ * exportações simultâneas e a duração de cada uma são limitados para que clientes lentos não
+ * mantenham conexões do pool presas indefinidamente.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionExportService {
+
+    private static final String EXPORT_QUERY = "SELECT " +
+            "'ACCOUNT' AS source, " +
+            "at.id, " +
+            "at.account_id AS parent_id, " +
+            "at.amount, " +
+            "at.transaction_type_id, " +
+            "at.category_id, " +
+            "at.description, " +
+            "at.transaction_date " +
+            "FROM account_transaction at " +
+            "WHERE at.profile_id = ? " +
+            "UNION ALL " +
+            "SELECT " +
+            "'CARD' AS source, " +
+            "ct.id, " +
+            "ct.card_id AS parent_id, " +
+            "ct.amount, " +
+            "ct.transaction_type_id, " +
+            "ct.category_id, " +
+            "ct.description, " +
+            "ct.transaction_date " +
+            "FROM card_transaction ct " +
+            "WHERE ct.profile_id = ?";
+
+    private static final String PERMIT_INTERCEPTOR_KEY = TransactionExportService.class.getName() + ".permit";
+
+    private static final String CSV_HEADER = "source,id,parentId,amount,transactionTypeId,categoryId,description,transactionDate\n";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${export.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    private JdbcTemplate exportJdbcTemplate;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private Semaphore exportPermits;
+
+    @PostConstruct
+    public void init() {
+        exportJdbcTemplate = new JdbcTemplate(dataSource);
+        exportJdbcTemplate.setFetchSize(fetchSize);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) maxDurationSeconds);
+
+        exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Prepara a exportação das transações do perfil no formato solicitado.
+     *
+     * <p>
+     * A permissão de exportação é obtida aqui, para que o excesso de exportações seja recusado antes do início
+     * da resposta, e devolvida por quem primeiro assumir a exportação: o próprio corpo, ao terminar, ou o fim do
+     * processamento assíncrono, quando o corpo não chegou a ser executado (tempo esgotado, erro ou desconexão).
+     * </p>
+     *
+     * @param profileId O perfil cujas transações serão exportadas.
+     * @param format O formato de saída.
+     * @param request A requisição atual, em cujo processamento assíncrono o corpo será executado.
+     * @return O corpo da resposta, escrito de forma incremental pelo Spring MVC.
+     * @throws ServiceOverloadedException Se o limite de exportações simultâneas já foi atingido.
+     */
+    public StreamingResponseBody exportTransactions(Long profileId, ExportFormatType format, WebRequest request) {
+        if (!exportPermits.tryAcquire())
+            throw new ServiceOverloadedException("transaction-export");
+
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(PERMIT_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                if (claimed.compareAndSet(false, true))
+                    exportPermits.release();
+            }
+        });
+
+        return outputStream -> {
+            if (!claimed.compareAndSet(false, true)) return;
+
+            try {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxDurationSeconds);
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try {
+                        if (format == ExportFormatType.CSV)
+                            writeCsv(profileId, outputStream, deadline);
+                        else
+                            writeNdjson(profileId, outputStream, deadline);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                exportPermits.release();
+            }
+        };
+    }
+
+    private void writeNdjson(Long profileId, OutputStream outputStream, long deadline) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            streamRows(profileId, deadline, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("source", rs.getString("source"));
+                    generator.writeNumberField("id", rs.getLong("id"));
+                    generator.writeNumberField("parentId", rs.getLong("parent_id"));
+                    generator.writeNumberField("amount", rs.getBigDecimal("amount"));
+                    generator.writeNumberField("transactionTypeId", rs.getLong("transaction_type_id"));
+                    generator.writeNumberField("categoryId", rs.getLong("category_id"));
+                    generator.writeStringField("description", rs.getString("description"));
+                    generator.writeStringField("transactionDate", rs.getString("transaction_date"));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeCsv(Long profileId, OutputStream outputStream, long deadline) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        streamRows(profileId, deadline, rs -> {
+            try {
+                writer.write(rs.getString("source"));
+                writer.write(',');
+                writer.write(rs.getString("id"));
+                writer.write(',');
+                writer.write(rs.getString("parent_id"));
+                writer.write(',');
+                writer.write(rs.getBigDecimal("amount").toPlainString());
+                writer.write(',');
+                writer.write(rs.getString("transaction_type_id"));
+                writer.write(',');
+                writer.write(rs.getString("category_id"));
+                writer.write(',');
+                writeCsvField(writer, rs.getString("description"));
+                writer.write(',');
+                writer.write(rs.getString("transaction_date"));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void streamRows(Long profileId, long deadline, RowCallbackHandler rowHandler) {
+        exportJdbcTemplate.query(EXPORT_QUERY, (ResultSet rs) -> {
+            if (System.nanoTime() > deadline)
+                throw new SQLException("Transaction export exceeded " + maxDurationSeconds + " seconds");
+            rowHandler.processRow(rs);
+        }, profileId, profileId);
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
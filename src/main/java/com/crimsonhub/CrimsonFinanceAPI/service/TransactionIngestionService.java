@@ -0,0 +1,245 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serviço responsável por executar as inserções unitárias de transações, opcionalmente agrupadas
+ * em commits coletivos (<i>group commit</i>).
+ * <p>
+ * Com o modo agrupado desligado, cada inserção roda em sua própria transação, na thread da requisição.
+ * Com o modo ligado, as inserções entram em uma fila limitada e uma thread dedicada as executa em
+ * lotes de até {@code max-batch-size} linhas, aguardando no máximo {@code max-delay-ms} pela próxima
+ * linha, com um único commit por lote. A requisição aguarda o commit do seu lote antes de responder,
+ * então a confirmação continua síncrona e durável.
+ * </p>
+ * <p>
+ * Se qualquer linha do lote falhar, o lote inteiro é desfeito e cada linha é executada novamente em
+ * sua própria transação, de modo que cada requisição recebe apenas o seu próprio erro. Com a fila
+ * cheia, a inserção é rejeitada com {@link ServiceOverloadedException}.
+ * </p>
+ * <p>
+ * A requisição aguarda o commit por no máximo {@code wait-timeout-ms}. Se a inserção ainda estiver na
+ * fila, ela é descartada e a requisição recebe {@link ServiceOverloadedException}, podendo ser repetida
+ * com segurança. Se o lote dela já começou, a requisição aguarda mais um prazo: as transações rodam com
+ * esse mesmo tempo limite e terminam, com commit ou rollback, antes disso. Somente se nem assim houver
+ * resposta a requisição falha sem saber se a linha foi gravada.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionIngestionService {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${transaction-ingestion.group-commit.enabled:false}")
+    private boolean groupCommitEnabled;
+
+    @Value("${transaction-ingestion.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${transaction-ingestion.group-commit.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${transaction-ingestion.group-commit.max-delay-ms:5}")
+    private long maxDelayMillis;
+
+    @Value("${transaction-ingestion.group-commit.wait-timeout-ms:5000}")
+    private long waitTimeoutMillis;
+
+    private TransactionTemplate transactionTemplate;
+
+    private BlockingQueue<PendingInsert> queue;
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    private DistributionSummary batchSize;
+
+    private Timer commitLatency;
+
+    private Counter fallbacks;
+
+    private Counter rejected;
+
+    private Counter timeouts;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout((int) Math.ceilDiv(waitTimeoutMillis, 1000));
+
+        if (!groupCommitEnabled) return;
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("transaction.ingestion.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        batchSize = DistributionSummary.builder("transaction.ingestion.batch.size").register(meterRegistry);
+        commitLatency = Timer.builder("transaction.ingestion.commit").register(meterRegistry);
+        fallbacks = Counter.builder("transaction.ingestion.fallbacks").register(meterRegistry);
+        rejected = Counter.builder("transaction.ingestion.rejected").register(meterRegistry);
+        timeouts = Counter.builder("transaction.ingestion.timeouts").register(meterRegistry);
+
+        running = true;
+        worker = Thread.ofPlatform().name("transaction-ingestion").daemon().start(this::run);
+    }
+
+    /**
+     * Interrompe o recebimento de novas inserções e aguarda a gravação das que já estão na fila.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (worker == null) return;
+
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Executa a inserção em uma transação, agrupada com outras inserções concorrentes se o modo
+     * agrupado estiver ligado. Retorna somente após o commit.
+     *
+     * @param insert A inserção; deve lançar exceção para rejeitar a própria linha.
+     * @throws ServiceOverloadedException Se a fila de inserções estiver cheia ou o commit não ocorrer a tempo.
+     */
+    public void execute(Runnable insert) {
+        if (!groupCommitEnabled) {
+            transactionTemplate.executeWithoutResult(status -> insert.run());
+            return;
+        }
+
+        PendingInsert pending = new PendingInsert(insert, new CompletableFuture<>(), new AtomicBoolean());
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            throw new ServiceOverloadedException("transaction-ingestion");
+        }
+
+        try {
+            if (!awaitCommit(pending)) {
+                timeouts.increment();
+                throw new ServiceOverloadedException("transaction-ingestion");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.claimed().compareAndSet(false, true);
+            throw new ServiceOverloadedException("transaction-ingestion");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Aguarda o commit da inserção. Se o prazo expirar com a inserção ainda na fila, ela é descartada;
+     * se o lote dela já começou, aguarda mais um prazo, o tempo limite da transação do lote.
+     *
+     * @return {@code false} se a inserção não foi confirmada a tempo.
+     */
+    private boolean awaitCommit(PendingInsert pending) throws InterruptedException, ExecutionException {
+        try {
+            pending.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            if (pending.claimed().compareAndSet(false, true)) return false;
+        }
+
+        try {
+            pending.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void run() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    if (batch.size() >= maxBatchSize) break;
+
+                    PendingInsert next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result().completeExceptionally(new ServiceOverloadedException("transaction-ingestion")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingInsert> batch) {
+        batch.removeIf(pending -> !pending.claimed().compareAndSet(false, true));
+        if (batch.isEmpty()) return;
+
+        batchSize.record(batch.size());
+
+        try {
+            commitLatency.record(() -> transactionTemplate.executeWithoutResult(status -> batch.forEach(pending -> pending.insert().run())));
+            batch.forEach(pending -> pending.result().complete(null));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+                return;
+            }
+
+            fallbacks.increment();
+            batch.forEach(this::commitAlone);
+        }
+    }
+
+    private void commitAlone(PendingInsert pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> pending.insert().run());
+            pending.result().complete(null);
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingInsert(Runnable insert, CompletableFuture<Void> result, AtomicBoolean claimed) {
+    }
+}
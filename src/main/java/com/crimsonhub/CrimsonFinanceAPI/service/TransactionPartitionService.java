@@ -0,0 +1,64 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Serviço responsável pelas partições mensais de {@code account_transaction} e {@code card_transaction}.
+ * <p>
+ * As tabelas de transações são particionadas por intervalo de {@code transaction_date}, uma partição
+ * por mês, para que consultas filtradas por data leiam apenas os meses envolvidos e para que a
+ * manutenção (vacuum, índices) ocorra em partições pequenas. As partições dos próximos meses são
+ * criadas antecipadamente, na inicialização e diariamente; transações fora do intervalo criado caem
+ * na partição {@code DEFAULT} e são movidas quando a partição do mês é criada.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionPartitionService {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("account_transaction", "card_transaction");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${transaction-partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    /**
+     * Garante as partições do mês atual até {@code transaction-partition.months-ahead} meses à frente.
+     *
+     * @return A quantidade de partições criadas.
+     */
+    @Scheduled(cron = "${transaction-partition.cron:0 0 3 * * *}")
+    public int ensurePartitions() {
+        LocalDate from = LocalDate.now().withDayOfMonth(1);
+        LocalDate to = from.plusMonths(monthsAhead);
+
+        int created = 0;
+        for (String table : PARTITIONED_TABLES) {
+            Integer count = jdbcTemplate.queryForObject("SELECT ensure_transaction_partitions(?, ?, ?)",
+                    Integer.class, table, Date.valueOf(from), Date.valueOf(to));
+            created += count == null ? 0 : count;
+        }
+
+        return created;
+    }
+}
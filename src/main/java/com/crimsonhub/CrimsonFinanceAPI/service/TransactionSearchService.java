@@ -0,0 +1,80 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionPageResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchCriteria;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchCursor;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchPageResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionSearchResponseDTO;
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionSearchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Serviço responsável pela busca de transações por descrição e nome de categoria.
+ * <p>
+ * O termo precisa ter ao menos três caracteres, o tamanho de um trigrama; termos menores não
+ * podem ser atendidos pelo índice e levariam a uma varredura de todas as transações do perfil.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionSearchService {
+
+    private static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int MAX_QUERY_LENGTH = 40;
+
+    @Autowired
+    private TransactionSearchRepository transactionSearchRepository;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Transactional(readOnly = true)
+    public TransactionSearchPageResponseDTO searchTransactions(Long profileId, TransactionSearchCriteria criteria, String cursor, Integer size) {
+        validate(criteria);
+
+        int pageSize = TransactionPageResponseDTO.pageSize(size);
+        TransactionSearchCursor position = cursor == null ? null : TransactionSearchCursor.decode(cursor);
+        List<Long> categoryIds = referenceDataRegistry.findCategoryIdsByName(criteria.query());
+
+        List<TransactionSearchResponseDTO> rows = transactionSearchRepository.search(profileId, criteria, categoryIds, position, pageSize + 1)
+                .stream()
+                .map(row -> new TransactionSearchResponseDTO(
+                        row.source(),
+                        row.id(),
+                        row.parentId(),
+                        row.amount(),
+                        referenceDataRegistry.transactionTypeName(row.transactionTypeId()),
+                        row.description(),
+                        row.transactionDate(),
+                        referenceDataRegistry.categoryName(row.categoryId()),
+                        row.rank()))
+                .toList();
+
+        return TransactionSearchPageResponseDTO.of(rows, pageSize);
+    }
+
+    private void validate(TransactionSearchCriteria criteria) {
+        String query = criteria.query();
+        if (query == null || query.isBlank() || query.strip().length() < MIN_QUERY_LENGTH || query.length() > MAX_QUERY_LENGTH)
+            throw new InvalidRequestParameterException("query");
+
+        if (criteria.from() != null && criteria.to() != null && criteria.to().before(criteria.from()))
+            throw new InvalidRequestParameterException("to");
+
+        if (criteria.minAmount() != null && criteria.maxAmount() != null && criteria.maxAmount().compareTo(criteria.minAmount()) < 0)
+            throw new InvalidRequestParameterException("maxAmount");
+
+        if (criteria.type() != null)
+            referenceDataRegistry.requireTransactionType(criteria.type());
+    }
+}
@@ -0,0 +1,86 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionTotalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Serviço responsável pelos totais de transações por perfil, origem e tipo de transação.
+ * <p>
+ * Os totais são mantidos de forma incremental na tabela {@code transaction_total}, dentro da mesma
+ * transação que insere ou remove a transação de origem, para que a leitura seja uma consulta por
+ * chave primária em vez de um {@code SUM} sobre todo o histórico do perfil.
+ * </p>
+ * <p>
+ * Contas e cartões removidos apagam suas transações em cascata no banco, sem passar por {@link #subtract};
+ * por isso a remoção deve chamar {@link #subtractAccount} ou {@link #subtractCard} antes, na mesma transação.
+ * </p>
+ *
+ * @author Crimson Finance
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Service
+public class TransactionTotalService {
+
+    @Autowired
+    private TransactionTotalRepository transactionTotalRepository;
+
+    @Autowired
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long profileId, TransactionSourceType source, Long transactionTypeId, BigDecimal amount) {
+        transactionTotalRepository.addToTotal(profileId, source.name(), transactionTypeId, amount);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(Long profileId, TransactionSourceType source, Long transactionTypeId, BigDecimal amount) {
+        transactionTotalRepository.addToTotal(profileId, source.name(), transactionTypeId, amount.negate());
+    }
+
+    /**
+     * Desconta dos totais todas as transações da conta. Deve ser chamado antes da remoção da conta.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractAccount(Long accountId) {
+        transactionTotalRepository.subtractAccountTransactions(accountId);
+    }
+
+    /**
+     * Desconta dos totais todas as transações do cartão. Deve ser chamado antes da remoção do cartão.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractCard(Long cardId) {
+        transactionTotalRepository.subtractCardTransactions(cardId);
+    }
+
+    public BigDecimal getTotal(Long profileId, TransactionSourceType source, Long transactionTypeId) {
+        return transactionTotalRepository.findTotalAmount(profileId, source.name(), transactionTypeId);
+    }
+
+    /**
+     * Recalcula todos os totais a partir das tabelas de transações.
+     * <p>
+     * A tabela de totais é bloqueada durante o recálculo; inserções e remoções concorrentes aguardam
+     * o término e aplicam seus incrementos sobre os valores recalculados.
+     * </p>
+     *
+     * @return A quantidade de totais gravados.
+     */
+    @Transactional
+    public int rebuild() {
+        transactionTotalRepository.lockTotals();
+        transactionTotalRepository.deleteTotals();
+        int rebuilt = transactionTotalRepository.insertTotalsFromTransactions();
+
+        dataVersionRegistry.invalidateAll();
+        return rebuilt;
+    }
+}
@@ -0,0 +1,5 @@
+CREATE INDEX idx_account_transaction_account_date ON account_transaction(account_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_card_transaction_card_date ON card_transaction(card_id, transaction_date DESC, id DESC);
+
+DROP INDEX idx_account_transaction_account;
+DROP INDEX idx_card_transaction_card;
@@ -0,0 +1,18 @@
+CREATE TABLE transaction_total (
+    profile_id BIGINT NOT NULL,
+    source VARCHAR(10) NOT NULL,
+    transaction_type_id SMALLINT NOT NULL,
+    total_amount DECIMAL(16, 2) NOT NULL DEFAULT 0.00,
+    CONSTRAINT pk_transaction_total PRIMARY KEY (profile_id, source, transaction_type_id),
+    CONSTRAINT fk_profile FOREIGN KEY(profile_id) REFERENCES profile(id) ON DELETE CASCADE
+);
+
+INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount)
+SELECT profile_id, 'ACCOUNT', transaction_type_id, SUM(amount)
+FROM account_transaction
+GROUP BY profile_id, transaction_type_id;
+
+INSERT INTO transaction_total (profile_id, source, transaction_type_id, total_amount)
+SELECT profile_id, 'CARD', transaction_type_id, SUM(amount)
+FROM card_transaction
+GROUP BY profile_id, transaction_type_id;
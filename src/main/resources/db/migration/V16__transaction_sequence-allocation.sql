@@ -0,0 +1,2 @@
+ALTER SEQUENCE account_transaction_id_seq INCREMENT BY 50;
+ALTER SEQUENCE card_transaction_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_invoice_card_date_due ON invoice(card_id, date_due);
+
+DROP INDEX idx_invoice_card;
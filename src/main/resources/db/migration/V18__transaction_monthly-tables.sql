@@ -0,0 +1,38 @@
+CREATE TABLE transaction_type_monthly (
+    profile_id BIGINT NOT NULL,
+    transaction_type_id SMALLINT NOT NULL,
+    month DATE NOT NULL,
+    total_amount DECIMAL(16, 2) NOT NULL DEFAULT 0.00,
+    transaction_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_transaction_type_monthly PRIMARY KEY (profile_id, transaction_type_id, month),
+    CONSTRAINT fk_profile FOREIGN KEY(profile_id) REFERENCES profile(id) ON DELETE CASCADE
+);
+
+CREATE TABLE transaction_category_monthly (
+    profile_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    transaction_type_id SMALLINT NOT NULL,
+    month DATE NOT NULL,
+    total_amount DECIMAL(16, 2) NOT NULL DEFAULT 0.00,
+    transaction_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_transaction_category_monthly PRIMARY KEY (profile_id, category_id, transaction_type_id, month),
+    CONSTRAINT fk_profile FOREIGN KEY(profile_id) REFERENCES profile(id) ON DELETE CASCADE
+);
+
+INSERT INTO transaction_type_monthly (profile_id, transaction_type_id, month, total_amount, transaction_count)
+SELECT t.profile_id, t.transaction_type_id, date_trunc('month', t.transaction_date)::date, SUM(t.amount), COUNT(*)
+FROM (
+    SELECT profile_id, transaction_type_id, transaction_date, amount FROM account_transaction
+    UNION ALL
+    SELECT profile_id, transaction_type_id, transaction_date, amount FROM card_transaction
+) t
+GROUP BY t.profile_id, t.transaction_type_id, date_trunc('month', t.transaction_date)::date;
+
+INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count)
+SELECT t.profile_id, t.category_id, t.transaction_type_id, date_trunc('month', t.transaction_date)::date, SUM(t.amount), COUNT(*)
+FROM (
+    SELECT profile_id, category_id, transaction_type_id, transaction_date, amount FROM account_transaction
+    UNION ALL
+    SELECT profile_id, category_id, transaction_type_id, transaction_date, amount FROM card_transaction
+) t
+GROUP BY t.profile_id, t.category_id, t.transaction_type_id, date_trunc('month', t.transaction_date)::date;
@@ -0,0 +1,122 @@
+-- Cria, se ainda não existir, a partição mensal de parent_table que contém target_month.
+-- Linhas do mesmo mês que tenham caído na partição DEFAULT são movidas para a nova partição.
+CREATE OR REPLACE FUNCTION create_transaction_partition(parent_table TEXT, target_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_month)::date;
+    month_end DATE := (date_trunc('month', target_month) + INTERVAL '1 month')::date;
+    partition_name TEXT := parent_table || '_p' || to_char(target_month, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', partition_name, parent_table);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved',
+                   parent_table || '_default', month_start, month_end, partition_name);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent_table, partition_name, month_start, month_end);
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Garante as partições mensais de parent_table de from_month até to_month, inclusive.
+CREATE OR REPLACE FUNCTION ensure_transaction_partitions(parent_table TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    target_month DATE;
+    created INTEGER := 0;
+BEGIN
+    FOR target_month IN
+        SELECT generate_series(date_trunc('month', from_month), date_trunc('month', to_month), INTERVAL '1 month')::date
+    LOOP
+        IF create_transaction_partition(parent_table, target_month) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- account_transaction
+
+ALTER TABLE account_transaction RENAME TO account_transaction_legacy;
+ALTER SEQUENCE account_transaction_id_seq OWNED BY NONE;
+
+CREATE TABLE account_transaction (
+    id INTEGER NOT NULL DEFAULT nextval('account_transaction_id_seq'),
+    profile_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    amount DECIMAL(12, 2) NOT NULL DEFAULT 0.00,
+    transaction_type_id SMALLINT NOT NULL,
+    description VARCHAR(40) NOT NULL,
+    transaction_date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    CONSTRAINT fk_profile FOREIGN KEY(profile_id) REFERENCES profile(id) ON DELETE CASCADE,
+    CONSTRAINT fk_account FOREIGN KEY(account_id) REFERENCES account(id) ON DELETE CASCADE,
+    CONSTRAINT fk_type FOREIGN KEY(transaction_type_id) REFERENCES transaction_type(id) ON UPDATE SET NULL,
+    CONSTRAINT fk_category FOREIGN KEY(category_id) REFERENCES category(id) ON UPDATE SET NULL
+) PARTITION BY RANGE (transaction_date);
+
+ALTER SEQUENCE account_transaction_id_seq OWNED BY account_transaction.id;
+
+CREATE TABLE account_transaction_default PARTITION OF account_transaction DEFAULT;
+
+SELECT create_transaction_partition('account_transaction', month)
+FROM (SELECT DISTINCT date_trunc('month', transaction_date)::date AS month FROM account_transaction_legacy) months;
+SELECT ensure_transaction_partitions('account_transaction', CURRENT_DATE, (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO account_transaction (id, profile_id, account_id, amount, transaction_type_id, description, transaction_date, category_id, created_at)
+SELECT id, profile_id, account_id, amount, transaction_type_id, description, transaction_date, category_id, created_at
+FROM account_transaction_legacy;
+
+DROP TABLE account_transaction_legacy;
+
+ALTER TABLE account_transaction ADD CONSTRAINT account_transaction_pkey PRIMARY KEY (id, transaction_date);
+CREATE INDEX idx_account_transaction_account_date ON account_transaction(account_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_account_transaction_type ON account_transaction(transaction_type_id);
+CREATE INDEX idx_account_transaction_category ON account_transaction(category_id);
+
+-- card_transaction
+
+ALTER TABLE card_transaction RENAME TO card_transaction_legacy;
+ALTER SEQUENCE card_transaction_id_seq OWNED BY NONE;
+
+CREATE TABLE card_transaction (
+    id INTEGER NOT NULL DEFAULT nextval('card_transaction_id_seq'),
+    profile_id BIGINT NOT NULL,
+    card_id BIGINT NOT NULL,
+    amount DECIMAL(12, 2) NOT NULL DEFAULT 0.00,
+    transaction_type_id SMALLINT NOT NULL,
+    description VARCHAR(40) NOT NULL,
+    transaction_date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    CONSTRAINT fk_profile FOREIGN KEY(profile_id) REFERENCES profile(id) ON DELETE CASCADE,
+    CONSTRAINT fk_card FOREIGN KEY(card_id) REFERENCES card(id) ON DELETE CASCADE,
+    CONSTRAINT fk_type FOREIGN KEY(transaction_type_id) REFERENCES transaction_type(id) ON UPDATE SET NULL,
+    CONSTRAINT fk_category FOREIGN KEY(category_id) REFERENCES category(id) ON UPDATE SET NULL
+) PARTITION BY RANGE (transaction_date);
+
+ALTER SEQUENCE card_transaction_id_seq OWNED BY card_transaction.id;
+
+CREATE TABLE card_transaction_default PARTITION OF card_transaction DEFAULT;
+
+SELECT create_transaction_partition('card_transaction', month)
+FROM (SELECT DISTINCT date_trunc('month', transaction_date)::date AS month FROM card_transaction_legacy) months;
+SELECT ensure_transaction_partitions('card_transaction', CURRENT_DATE, (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO card_transaction (id, profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id, created_at)
+SELECT id, profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id, created_at
+FROM card_transaction_legacy;
+
+DROP TABLE card_transaction_legacy;
+
+ALTER TABLE card_transaction ADD CONSTRAINT card_transaction_pkey PRIMARY KEY (id, transaction_date);
+CREATE INDEX idx_card_transaction_card_date ON card_transaction(card_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_card_transaction_type ON card_transaction(transaction_type_id);
+CREATE INDEX idx_card_transaction_category ON card_transaction(category_id);
@@ -0,0 +1,5 @@
+CREATE INDEX idx_account_transaction_profile_type_amount ON account_transaction(profile_id, transaction_type_id, amount DESC) INCLUDE (id, category_id);
+
+CREATE INDEX idx_card_profile_expenses ON card(profile_id, current_expenses DESC) INCLUDE (card_flag_id, description);
+
+DROP INDEX idx_card_profile;
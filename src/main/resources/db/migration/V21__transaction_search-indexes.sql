@@ -0,0 +1,6 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- profile_id entra no mesmo índice GIN (via btree_gin) para que a busca textual já filtre pelo perfil.
+CREATE INDEX idx_account_transaction_description_trgm ON account_transaction USING GIN (profile_id, description gin_trgm_ops);
+CREATE INDEX idx_card_transaction_description_trgm ON card_transaction USING GIN (profile_id, description gin_trgm_ops);
@@ -0,0 +1,5 @@
+ALTER TABLE card ADD COLUMN closing_day SMALLINT NOT NULL DEFAULT 1 CHECK (closing_day BETWEEN 1 AND 28);
+ALTER TABLE card ADD COLUMN due_day SMALLINT NOT NULL DEFAULT 10 CHECK (due_day BETWEEN 1 AND 28);
+
+-- Consultada pelo fechamento para não gerar duas faturas do mesmo cartão no mesmo período.
+CREATE INDEX idx_invoice_card_closing_date ON invoice(card_id, closing_date);
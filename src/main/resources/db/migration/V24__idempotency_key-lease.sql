@@ -0,0 +1 @@
+ALTER TABLE idempotency_key ADD COLUMN claimed_at TIMESTAMP NOT NULL DEFAULT NOW();
@@ -0,0 +1,13 @@
+-- Recalcula as despesas de cada cartão a partir das transações já lançadas, com a mesma regra
+-- aplicada pela API: despesas somam; estornos e pagamentos subtraem; os demais tipos não alteram.
+UPDATE card c
+SET current_expenses = COALESCE((
+    SELECT SUM(CASE ct.transaction_type_id
+                   WHEN 2 THEN ct.amount
+                   WHEN 5 THEN -ct.amount
+                   WHEN 6 THEN -ct.amount
+                   ELSE 0
+               END)
+    FROM card_transaction ct
+    WHERE ct.card_id = c.id
+), 0);
@@ -0,0 +1,22 @@
+-- Serializa a criação de partições de parent_table entre sessões. Sem o lock, duas chamadas concorrentes
+-- podiam ver a partição como inexistente e falhar no CREATE TABLE da segunda. O lock é liberado no fim da
+-- transação, e a sessão que aguardou encontra as partições já criadas.
+CREATE OR REPLACE FUNCTION ensure_transaction_partitions(parent_table TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    target_month DATE;
+    created INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_transaction_partitions'), hashtext(parent_table));
+
+    FOR target_month IN
+        SELECT generate_series(date_trunc('month', from_month), date_trunc('month', to_month), INTERVAL '1 month')::date
+    LOOP
+        IF create_transaction_partition(parent_table, target_month) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
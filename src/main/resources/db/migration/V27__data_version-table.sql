@@ -0,0 +1,12 @@
+-- Versões dos dados usadas nas ETags, compartilhadas entre as instâncias. scope guarda o ordinal de
+-- DataVersionScopeType; a linha (-1, 0) é a versão global, incrementada quando todas as ETags são invalidadas.
+CREATE SEQUENCE data_version_seq;
+
+CREATE TABLE data_version(
+    scope SMALLINT NOT NULL,
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (scope, id)
+);
+
+INSERT INTO data_version (scope, id, version) VALUES (-1, 0, nextval('data_version_seq'));
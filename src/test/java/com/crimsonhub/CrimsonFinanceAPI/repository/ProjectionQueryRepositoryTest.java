@@ -0,0 +1,151 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.AccountListProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardListProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CardsDashboardProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.CategoryTotalProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.MonthlyTotalProjection;
+import com.crimsonhub.CrimsonFinanceAPI.domain.projection.TransactionProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Executa as consultas nativas mapeadas em projeções contra um PostgreSQL real, com o esquema das migrações.
+ * As colunas são atribuídas às projeções pela posição, e colunas SMALLINT chegam como {@code Short}, que não pode
+ * ser atribuído a componentes {@code Long}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ProjectionQueryRepositoryTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private CardRepository cardRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private CardTransactionRepository cardTransactionRepository;
+
+	@Autowired
+	private TransactionTypeMonthlyRepository transactionTypeMonthlyRepository;
+
+	@Autowired
+	private TransactionCategoryMonthlyRepository transactionCategoryMonthlyRepository;
+
+	private Long profileId;
+	private Long accountId;
+	private Long cardId;
+	private Long categoryId;
+
+	@BeforeEach
+	void setUp() {
+		profileId = jdbcTemplate.queryForObject("INSERT INTO profile (email, password, role, full_name) " +
+				"VALUES ('projection@crimson.test', 'x', 0, 'Projection') RETURNING id", Long.class);
+		categoryId = jdbcTemplate.queryForObject("INSERT INTO category (name, color_id) VALUES ('Mercado', 1) RETURNING id", Long.class);
+		accountId = jdbcTemplate.queryForObject("INSERT INTO account (profile_id, account_company_id, account_type_id) " +
+				"VALUES (?, 2, 1) RETURNING id", Long.class, profileId);
+		cardId = jdbcTemplate.queryForObject("INSERT INTO card (profile_id, credit_limit, card_flag_id, description) " +
+				"VALUES (?, 1000.00, 1, 'Principal') RETURNING id", Long.class, profileId);
+		jdbcTemplate.update("INSERT INTO account_transaction (profile_id, account_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+				"VALUES (?, ?, 150.00, 2, 'Mercado', DATE '2025-03-10', ?)", profileId, accountId, categoryId);
+		jdbcTemplate.update("INSERT INTO card_transaction (profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+				"VALUES (?, ?, 80.00, 2, 'Mercado', DATE '2025-03-11', ?)", profileId, cardId, categoryId);
+		jdbcTemplate.update("INSERT INTO transaction_type_monthly (profile_id, transaction_type_id, month, total_amount, transaction_count) " +
+				"VALUES (?, 2, DATE '2025-03-01', 230.00, 2)", profileId);
+		jdbcTemplate.update("INSERT INTO transaction_category_monthly (profile_id, category_id, transaction_type_id, month, total_amount, transaction_count) " +
+				"VALUES (?, ?, 2, DATE '2025-03-01', 230.00, 2)", profileId, categoryId);
+	}
+
+	@Test
+	void accountListMapsSmallintColumns() {
+		List<AccountListProjection> accounts = accountRepository.findAccountsByProfileId(profileId);
+
+		assertEquals(1, accounts.size());
+		assertEquals(2L, accounts.get(0).accountCompanyId());
+		assertEquals(1L, accounts.get(0).accountTypeId());
+	}
+
+	@Test
+	void cardProjectionsMapSmallintColumns() {
+		List<CardListProjection> cards = cardRepository.findCardsByProfileId(profileId);
+		List<CardsDashboardProjection> topCards = cardRepository.findTopCardsByProfileId(profileId);
+
+		assertEquals(1L, cards.get(0).cardFlagId());
+		assertEquals(1L, topCards.get(0).cardFlagId());
+	}
+
+	@Test
+	void accountTransactionQueriesMapSmallintColumns() {
+		List<TransactionProjection> all = accountTransactionRepository.findTransactionsByAccountId(accountId);
+		List<TransactionProjection> firstPage = accountTransactionRepository.findFirstTransactionPageByAccountId(accountId, 10);
+		List<TransactionProjection> nextPage = accountTransactionRepository.findTransactionPageByAccountId(
+				accountId, Date.valueOf("2025-12-31"), Long.MAX_VALUE, 10);
+
+		assertEquals(2L, all.get(0).transactionTypeId());
+		assertEquals(2L, firstPage.get(0).transactionTypeId());
+		assertEquals(2L, nextPage.get(0).transactionTypeId());
+		assertEquals(categoryId, all.get(0).categoryId());
+	}
+
+	@Test
+	void cardTransactionQueriesMapSmallintColumns() {
+		List<TransactionProjection> all = cardTransactionRepository.findTransactionsByCardId(cardId);
+		List<TransactionProjection> firstPage = cardTransactionRepository.findFirstTransactionPageByCardId(cardId, 10);
+		List<TransactionProjection> nextPage = cardTransactionRepository.findTransactionPageByCardId(
+				cardId, Date.valueOf("2025-12-31"), Long.MAX_VALUE, 10);
+
+		assertEquals(2L, all.get(0).transactionTypeId());
+		assertEquals(2L, firstPage.get(0).transactionTypeId());
+		assertEquals(2L, nextPage.get(0).transactionTypeId());
+		assertEquals(categoryId, all.get(0).categoryId());
+	}
+
+	@Test
+	void monthlyTotalQueriesMapSmallintColumns() {
+		Date from = Date.valueOf("2025-01-01");
+		Date to = Date.valueOf("2026-01-01");
+
+		List<MonthlyTotalProjection> monthly = transactionTypeMonthlyRepository.findMonthlyTotals(profileId, from, to);
+		List<MonthlyTotalProjection> monthlyByType = transactionTypeMonthlyRepository.findMonthlyTotalsByType(profileId, 2L, from, to);
+		List<CategoryTotalProjection> categories = transactionCategoryMonthlyRepository.findCategoryTotals(profileId, from, to);
+		List<CategoryTotalProjection> categoriesByType = transactionCategoryMonthlyRepository.findCategoryTotalsByType(profileId, 2L, from, to);
+
+		assertEquals(2L, monthly.get(0).transactionTypeId());
+		assertEquals(2L, monthlyByType.get(0).transactionTypeId());
+		assertEquals(2L, categories.get(0).transactionTypeId());
+		assertEquals(categoryId, categories.get(0).categoryId());
+		assertEquals(2L, categoriesByType.get(0).transactionTypeId());
+	}
+}
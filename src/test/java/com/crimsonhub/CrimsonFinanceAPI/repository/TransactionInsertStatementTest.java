@@ -0,0 +1,107 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.QueryCountStatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conta, com o {@link QueryCountStatementInspector}, os comandos que o Hibernate envia ao PostgreSQL ao inserir
+ * uma transação: o perfil vem da conta no próprio INSERT, sem consulta prévia da conta ou do cartão.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.crimsonhub.CrimsonFinanceAPI.infrastructure.QueryCountStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionInsertStatementTest {
+
+	private static final BigDecimal AMOUNT = new BigDecimal("150.00");
+
+	private static final Date TRANSACTION_DATE = Date.valueOf("2025-03-10");
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private CardTransactionRepository cardTransactionRepository;
+
+	private Long profileId;
+	private Long accountId;
+	private Long cardId;
+	private Long categoryId;
+
+	@BeforeEach
+	void setUp() {
+		profileId = jdbcTemplate.queryForObject("INSERT INTO profile (email, password, role, full_name) " +
+				"VALUES ('insert@crimson.test', 'x', 0, 'Insert') RETURNING id", Long.class);
+		categoryId = jdbcTemplate.queryForObject("INSERT INTO category (name, color_id) VALUES ('Mercado', 1) RETURNING id", Long.class);
+		accountId = jdbcTemplate.queryForObject("INSERT INTO account (profile_id, account_company_id, account_type_id) " +
+				"VALUES (?, 2, 1) RETURNING id", Long.class, profileId);
+		cardId = jdbcTemplate.queryForObject("INSERT INTO card (profile_id, credit_limit, card_flag_id, description) " +
+				"VALUES (?, 1000.00, 1, 'Principal') RETURNING id", Long.class, profileId);
+
+		QueryCountStatementInspector.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		QueryCountStatementInspector.stop();
+	}
+
+	@Test
+	void accountTransactionInsertIsSingleStatement() {
+		Optional<Long> inserted = accountTransactionRepository.insertTransaction(
+				900_001L, accountId, AMOUNT, 2L, "Mercado", TRANSACTION_DATE, categoryId);
+
+		assertEquals(1, QueryCountStatementInspector.stop());
+		assertEquals(Optional.of(profileId), inserted);
+		assertEquals(profileId, jdbcTemplate.queryForObject("SELECT profile_id FROM account_transaction WHERE id = 900001", Long.class));
+	}
+
+	@Test
+	void accountTransactionInsertForMissingAccountIsSingleStatement() {
+		Optional<Long> inserted = accountTransactionRepository.insertTransaction(
+				900_002L, Long.MAX_VALUE, AMOUNT, 2L, "Mercado", TRANSACTION_DATE, categoryId);
+
+		assertEquals(1, QueryCountStatementInspector.stop());
+		assertTrue(inserted.isEmpty());
+	}
+
+	@Test
+	void chargedCardTransactionInsertIsSingleStatement() {
+		Optional<Long> inserted = cardTransactionRepository.insertChargedTransaction(
+				900_003L, cardId, AMOUNT, 2L, "Mercado", TRANSACTION_DATE, categoryId, AMOUNT);
+
+		assertEquals(1, QueryCountStatementInspector.stop());
+		assertEquals(Optional.of(profileId), inserted);
+		assertEquals(0, AMOUNT.compareTo(jdbcTemplate.queryForObject("SELECT current_expenses FROM card WHERE id = ?", BigDecimal.class, cardId)));
+	}
+}
@@ -0,0 +1,109 @@
+package com.crimsonhub.CrimsonFinanceAPI.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifica que os totais por tipo continuam corretos quando contas e cartões são removidos e apagam suas
+ * transações em cascata, sem passar pela remoção individual de cada transação.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionTotalRepositoryTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTotalRepository transactionTotalRepository;
+
+	private Long profileId;
+	private Long removedAccountId;
+	private Long removedCardId;
+
+	@BeforeEach
+	void setUp() {
+		profileId = jdbcTemplate.queryForObject("INSERT INTO profile (email, password, role, full_name) " +
+				"VALUES ('totals@crimson.test', 'x', 0, 'Totals') RETURNING id", Long.class);
+		Long categoryId = jdbcTemplate.queryForObject("INSERT INTO category (name, color_id) VALUES ('Mercado', 1) RETURNING id", Long.class);
+		removedAccountId = insertAccount();
+		Long keptAccountId = insertAccount();
+		removedCardId = insertCard();
+		Long keptCardId = insertCard();
+
+		insertAccountTransaction(removedAccountId, "150.00", categoryId);
+		insertAccountTransaction(removedAccountId, "50.00", categoryId);
+		insertAccountTransaction(keptAccountId, "30.00", categoryId);
+		insertCardTransaction(removedCardId, "80.00", categoryId);
+		insertCardTransaction(keptCardId, "20.00", categoryId);
+
+		transactionTotalRepository.insertTotalsFromTransactions();
+	}
+
+	@Test
+	void accountRemovalSubtractsCascadedTransactions() {
+		transactionTotalRepository.subtractAccountTransactions(removedAccountId);
+		jdbcTemplate.update("DELETE FROM account WHERE id = ?", removedAccountId);
+
+		assertTotal("30.00", "ACCOUNT");
+		assertTotal("100.00", "CARD");
+	}
+
+	@Test
+	void cardRemovalSubtractsCascadedTransactions() {
+		transactionTotalRepository.subtractCardTransactions(removedCardId);
+		jdbcTemplate.update("DELETE FROM card WHERE id = ?", removedCardId);
+
+		assertTotal("230.00", "ACCOUNT");
+		assertTotal("20.00", "CARD");
+	}
+
+	private void assertTotal(String expected, String source) {
+		BigDecimal total = transactionTotalRepository.findTotalAmount(profileId, source, 2L);
+		assertEquals(0, new BigDecimal(expected).compareTo(total), source + " total was " + total);
+	}
+
+	private Long insertAccount() {
+		return jdbcTemplate.queryForObject("INSERT INTO account (profile_id, account_company_id, account_type_id) " +
+				"VALUES (?, 2, 1) RETURNING id", Long.class, profileId);
+	}
+
+	private Long insertCard() {
+		return jdbcTemplate.queryForObject("INSERT INTO card (profile_id, credit_limit, card_flag_id, description) " +
+				"VALUES (?, 1000.00, 1, 'Principal') RETURNING id", Long.class, profileId);
+	}
+
+	private void insertAccountTransaction(Long accountId, String amount, Long categoryId) {
+		jdbcTemplate.update("INSERT INTO account_transaction (profile_id, account_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+				"VALUES (?, ?, ?, 2, 'Mercado', DATE '2025-03-10', ?)", profileId, accountId, new BigDecimal(amount), categoryId);
+	}
+
+	private void insertCardTransaction(Long cardId, String amount, Long categoryId) {
+		jdbcTemplate.update("INSERT INTO card_transaction (profile_id, card_id, amount, transaction_type_id, description, transaction_date, category_id) " +
+				"VALUES (?, ?, ?, 2, 'Mercado', DATE '2025-03-11', ?)", profileId, cardId, new BigDecimal(amount), categoryId);
+	}
+}
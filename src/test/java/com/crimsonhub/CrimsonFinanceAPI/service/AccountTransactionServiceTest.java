@@ -0,0 +1,98 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.domain.dto.transaction.TransactionInsertDTO;
+import com.crimsonhub.CrimsonFinanceAPI.domain.entity.AccountTransaction;
+import com.crimsonhub.CrimsonFinanceAPI.domain.type.TransactionSourceType;
+import com.crimsonhub.CrimsonFinanceAPI.exception.AccountNotFoundException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.DataVersionRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.EntityIdAllocator;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.TopRankingCache;
+import com.crimsonhub.CrimsonFinanceAPI.mapper.TransactionMapper;
+import com.crimsonhub.CrimsonFinanceAPI.repository.AccountRepository;
+import com.crimsonhub.CrimsonFinanceAPI.repository.AccountTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTransactionServiceTest {
+
+	private static final TransactionInsertDTO DATA = new TransactionInsertDTO(
+			new BigDecimal("150.00"), 2L, "Mercado", Date.valueOf("2025-03-10"), 1L);
+
+	@Mock
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private TransactionAggregateService transactionAggregateService;
+
+	@Mock
+	private TransactionIngestionService transactionIngestionService;
+
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@Spy
+	private TransactionMapper transactionMapper;
+
+	@Mock
+	private DataVersionRegistry dataVersionRegistry;
+
+	@Mock
+	private TopRankingCache topRankingCache;
+
+	@Mock
+	private EntityIdAllocator entityIdAllocator;
+
+	@InjectMocks
+	private AccountTransactionService accountTransactionService;
+
+	@BeforeEach
+	void setUp() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(transactionIngestionService).execute(any());
+		when(entityIdAllocator.nextId(AccountTransaction.class)).thenReturn(42L);
+	}
+
+	@Test
+	void insertAccountTransactionDoesNotLoadAccount() {
+		when(accountTransactionRepository.insertTransaction(42L, 7L, DATA.amount(), DATA.type(), DATA.description(), DATA.transactionDate(), DATA.category()))
+				.thenReturn(Optional.of(3L));
+
+		accountTransactionService.insertAccountTransaction(7L, DATA);
+
+		verify(accountTransactionRepository).insertTransaction(42L, 7L, DATA.amount(), DATA.type(), DATA.description(), DATA.transactionDate(), DATA.category());
+		verifyNoMoreInteractions(accountTransactionRepository);
+		verifyNoInteractions(accountRepository);
+		verify(transactionAggregateService).add(eq(3L), eq(TransactionSourceType.ACCOUNT), any(AccountTransaction.class));
+	}
+
+	@Test
+	void insertAccountTransactionMapsMissingAccountToNotFound() {
+		when(accountTransactionRepository.insertTransaction(any(), any(), any(), any(), any(), any(), any()))
+				.thenReturn(Optional.empty());
+
+		assertThrows(AccountNotFoundException.class, () -> accountTransactionService.insertAccountTransaction(7L, DATA));
+
+		verifyNoInteractions(accountRepository, transactionAggregateService, topRankingCache, dataVersionRegistry);
+	}
+}
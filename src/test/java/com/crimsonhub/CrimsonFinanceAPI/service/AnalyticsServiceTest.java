@@ -0,0 +1,76 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.InvalidRequestParameterException;
+import com.crimsonhub.CrimsonFinanceAPI.infrastructure.ReferenceDataRegistry;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionCategoryMonthlyRepository;
+import com.crimsonhub.CrimsonFinanceAPI.repository.TransactionTypeMonthlyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+	private static final Long PROFILE_ID = 7L;
+
+	@Mock
+	private TransactionTypeMonthlyRepository transactionTypeMonthlyRepository;
+
+	@Mock
+	private TransactionCategoryMonthlyRepository transactionCategoryMonthlyRepository;
+
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@InjectMocks
+	private AnalyticsService analyticsService;
+
+	@Test
+	void rangeOfSixtyMonthsIsAccepted() {
+		YearMonth from = YearMonth.of(2021, 1);
+		YearMonth to = YearMonth.of(2025, 12);
+		when(transactionTypeMonthlyRepository.findMonthlyTotals(PROFILE_ID, Date.valueOf("2021-01-01"), Date.valueOf("2026-01-01")))
+				.thenReturn(List.of());
+
+		analyticsService.findMonthlyTotals(PROFILE_ID, from, to, null);
+
+		verify(transactionTypeMonthlyRepository).findMonthlyTotals(PROFILE_ID, Date.valueOf("2021-01-01"), Date.valueOf("2026-01-01"));
+	}
+
+	@Test
+	void rangeOfSixtyOneMonthsIsRejected() {
+		YearMonth from = YearMonth.of(2021, 1);
+		YearMonth to = YearMonth.of(2026, 1);
+
+		assertThrows(InvalidRequestParameterException.class, () -> analyticsService.findMonthlyTotals(PROFILE_ID, from, to, null));
+		assertThrows(InvalidRequestParameterException.class, () -> analyticsService.findCategoryTotals(PROFILE_ID, from, to, null));
+
+		verifyNoInteractions(transactionTypeMonthlyRepository, transactionCategoryMonthlyRepository);
+	}
+
+	@Test
+	void singleMonthRangeIsAccepted() {
+		YearMonth month = YearMonth.of(2025, 3);
+		when(transactionCategoryMonthlyRepository.findCategoryTotals(PROFILE_ID, Date.valueOf("2025-03-01"), Date.valueOf("2025-04-01")))
+				.thenReturn(List.of());
+
+		analyticsService.findCategoryTotals(PROFILE_ID, month, month, null);
+
+		verify(transactionCategoryMonthlyRepository).findCategoryTotals(PROFILE_ID, Date.valueOf("2025-03-01"), Date.valueOf("2025-04-01"));
+	}
+
+	@Test
+	void reversedRangeIsRejected() {
+		assertThrows(InvalidRequestParameterException.class,
+				() -> analyticsService.findMonthlyTotals(PROFILE_ID, YearMonth.of(2025, 3), YearMonth.of(2025, 2), null));
+	}
+}
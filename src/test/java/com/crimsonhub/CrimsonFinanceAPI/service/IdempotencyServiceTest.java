@@ -0,0 +1,83 @@
+package com.crimsonhub.CrimsonFinanceAPI.service;
+
+import com.crimsonhub.CrimsonFinanceAPI.exception.IdempotencyKeyConflictException;
+import com.crimsonhub.CrimsonFinanceAPI.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+	@Mock
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Spy
+	private ObjectMapper objectMapper;
+
+	@Spy
+	private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@InjectMocks
+	private IdempotencyService idempotencyService;
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+		ReflectionTestUtils.setField(idempotencyService, "cacheMaximumSize", 100L);
+		ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 1000L);
+		ReflectionTestUtils.setField(idempotencyService, "leaseSeconds", 60L);
+		idempotencyService.init();
+
+		when(idempotencyKeyRepository.claim(any(), any(), any(), anyLong())).thenReturn(true);
+	}
+
+	@Test
+	void replayReturnsOriginalResponseWithoutExecutingAgain() {
+		ResponseEntity<?> first = idempotencyService.execute("key-1", "account-transaction:1", Map.of("amount", 10), this::insert);
+		ResponseEntity<?> second = idempotencyService.execute("key-1", "account-transaction:1", Map.of("amount", 10), this::insert);
+
+		assertEquals(1, executions.get());
+		assertEquals(HttpStatus.CREATED, second.getStatusCode());
+		assertEquals(first.getStatusCode(), second.getStatusCode());
+		assertEquals("true", second.getHeaders().getFirst("Idempotent-Replayed"));
+		verify(idempotencyKeyRepository, times(1)).claim(any(), any(), any(), anyLong());
+		verify(idempotencyKeyRepository).complete(any(), eq("key-1"), anyInt(), isNull());
+	}
+
+	@Test
+	void reusingKeyWithDifferentRequestIsRejected() {
+		idempotencyService.execute("key-2", "account-transaction:1", Map.of("amount", 10), this::insert);
+
+		assertThrows(IdempotencyKeyConflictException.class,
+				() -> idempotencyService.execute("key-2", "account-transaction:1", Map.of("amount", 20), this::insert));
+		assertEquals(1, executions.get());
+	}
+
+	private ResponseEntity<?> insert() {
+		executions.incrementAndGet();
+		return ResponseEntity.status(HttpStatus.CREATED).build();
+	}
+}